@@ -4,6 +4,7 @@ import java.util.Arrays;
 import java.util.List;
 
 import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.capabilities.CapabilityRegistry;
 import edu.monash.fit2099.engine.displays.Display;
 import edu.monash.fit2099.engine.positions.FancyGroundFactory;
 import edu.monash.fit2099.engine.positions.GameMap;
@@ -12,6 +13,7 @@ import edu.monash.fit2099.engine.positions.World;
 public class Application {
 
 	public static void main(String[] args) {
+		CapabilityRegistry.register(Status.class);
 		World world = new World(new Display());
 
 		FancyGroundFactory groundFactory = new FancyGroundFactory(new Floor(), new Tree());
@@ -10,6 +10,7 @@ import edu.monash.fit2099.demo.mars.grounds.Wall;
 import edu.monash.fit2099.demo.mars.items.MartianItem;
 import edu.monash.fit2099.demo.mars.items.Stick;
 import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.capabilities.CapabilityRegistry;
 import edu.monash.fit2099.engine.displays.Display;
 import edu.monash.fit2099.engine.items.Item;
 import edu.monash.fit2099.engine.positions.FancyGroundFactory;
@@ -25,6 +26,7 @@ import java.util.List;
 public class Application {
 
     public static void main(String[] args) {
+        CapabilityRegistry.register(DemoCapabilities.class);
         World world = new World(new Display());
 
         FancyGroundFactory groundFactory = new FancyGroundFactory(new Floor(), new Wall(), new LockedDoor(),
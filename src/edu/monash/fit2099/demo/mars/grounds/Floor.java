@@ -8,4 +8,9 @@ public class Floor extends Ground {
 	public Floor() {
 		super('.');
 	}
+
+	@Override
+	public boolean isStateless() {
+		return true;
+	}
 }
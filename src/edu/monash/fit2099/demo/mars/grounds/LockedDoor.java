@@ -27,4 +27,9 @@ public class LockedDoor extends Ground {
 	public boolean blocksThrownObjects() {
 		return true;
 	}
+
+	@Override
+	public boolean isStateless() {
+		return true;
+	}
 }
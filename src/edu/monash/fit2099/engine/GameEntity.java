@@ -1,5 +1,6 @@
 package edu.monash.fit2099.engine;
 
+import edu.monash.fit2099.engine.capabilities.CapabilityListener;
 import edu.monash.fit2099.engine.capabilities.CapabilitySet;
 
 import java.util.List;
@@ -18,13 +19,20 @@ public abstract class GameEntity {
      */
     protected final CapabilitySet capabilitySet = new CapabilitySet();
 
+    /**
+     * Told whenever the capabilities change, if not null
+     */
+    private CapabilityListener capabilityListener;
+
     /**
      * Add a capability to the current entity.
      * Example #1: addCapability(Status.SLEEP) will add the Status.SLEEP capability to the current entity.
      * @param capability the Capability to add
      */
     public void addCapability(Enum<?> capability) {
-        capabilitySet.addCapability(capability);
+        CapabilityListener listener = capabilityListener;
+        if (capabilitySet.addCapability(capability) && listener != null)
+            listener.capabilityAdded(this, capability);
     }
 
     /** 
@@ -33,7 +41,26 @@ public abstract class GameEntity {
      * @param capability the Capability to remove
      */
     public void removeCapability(Enum<?> capability) {
-        capabilitySet.removeCapability(capability);
+        CapabilityListener listener = capabilityListener;
+        if (capabilitySet.removeCapability(capability) && listener != null)
+            listener.capabilityRemoved(this, capability);
+    }
+
+    /**
+     * Set something to be told whenever this entity gains or loses a capability.
+     * The engine uses this to keep each GameMap's {@link edu.monash.fit2099.engine.positions.CapabilityIndex} up to date.
+     * @param listener the listener, or null for none
+     */
+    public void setCapabilityListener(CapabilityListener listener) {
+        capabilityListener = listener;
+    }
+
+    /**
+     * Get the listener told about capability changes
+     * @return the listener, or null if there isn't one
+     */
+    public CapabilityListener getCapabilityListener() {
+        return capabilityListener;
     }
 
     /**
@@ -42,4 +42,19 @@ public abstract class Action {
 	public Action getNextAction() {
 		return null;
 	}
+
+	/**
+	 * Check that this Action can still be performed, just before it is executed.
+	 * When the World plans turns in parallel, Actors choose their Actions before anyone acts, so
+	 * an Actor earlier in the turn may have got in the way (e.g. taken the square it wanted to move to).
+	 * If this returns false the Actor chooses again instead.
+	 * By default, this returns true.
+	 * @param actor The actor performing the action.
+	 * @param map The map the actor is on.
+	 * @return true if the Action can still be executed
+	 * @see edu.monash.fit2099.engine.positions.World#setParallelPlanning(boolean)
+	 */
+	public boolean isStillValid(Actor actor, GameMap map) {
+		return true;
+	}
 }
@@ -5,15 +5,23 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
+import java.util.function.Supplier;
 
 /**
  * A thin wrapper for <code>java.util.ArrayList&lt;Action&gt;</code> that does not allow nulls to be added.
+ *
+ * A list can also be {@link #lazy(Supplier) lazy}, in which case its Actions are only collected the first
+ * time the list is used.
  */
 public class ActionList implements Iterable<Action> {
 	/**
 	 * List of actions
 	 */
 	private ArrayList<Action> actions = new ArrayList<Action>();
+	/**
+	 * Where to get the Actions from, if they haven't been collected yet
+	 */
+	private Supplier<ActionList> source;
 
 	/**
 	 * Constructs an empty list of actions.
@@ -28,12 +36,26 @@ public class ActionList implements Iterable<Action> {
 		add(action);
 	}
 
+	/**
+	 * Constructs a collection whose Actions are only collected when it is first used.
+	 *
+	 * Working out everything an Actor could do is expensive, and many Actors never look at the list,
+	 * so the World hands out lazy lists and only does the work for the Actors that read them.
+	 * @param source supplies the Actions; called at most once
+	 * @return a list that will hold the supplied Actions
+	 */
+	public static ActionList lazy(Supplier<ActionList> source) {
+		ActionList actions = new ActionList();
+		actions.source = source;
+		return actions;
+	}
 	
 	/**
 	 * Appends the contents of another Actions list to this one.
 	 * @param actions the Actions to append
 	 */
 	public void add(ActionList actions) {
+		collect();
 		for(Action action : actions) {
 			add(action);
 		}
@@ -45,6 +67,7 @@ public class ActionList implements Iterable<Action> {
 	 * @param actions the List&lt;Action&gt; to append
 	 */
 	public void add(List<Action> actions) {
+		collect();
 		for (Action action : actions) {
 			add(action);
 		}
@@ -56,6 +79,7 @@ public class ActionList implements Iterable<Action> {
 	 * @return true unconditionally
 	 */
 	public boolean add(Action action) {
+		collect();
 		if (action != null) {
 			actions.add(action);
 		}
@@ -73,6 +97,7 @@ public class ActionList implements Iterable<Action> {
 	 */
 	@Override
 	public Iterator<Action> iterator() {
+		collect();
 		return Collections.unmodifiableList(actions).iterator();
 	}
 	
@@ -82,6 +107,7 @@ public class ActionList implements Iterable<Action> {
 	 * @return a sorted shallow copy of the list of Actions
 	 */
 	public List<Action> sorted(Comparator<Action> comparator) {
+		collect();
 		ArrayList<Action> sortedActions = new ArrayList<Action>(actions);
 		Collections.sort(sortedActions, comparator);
 		return sortedActions;
@@ -91,6 +117,7 @@ public class ActionList implements Iterable<Action> {
 	 * Delete the contents of this collection, leaving it empty.
 	 */
 	public void clear() {
+		source = null;
 		actions.clear();
 	}
 
@@ -99,6 +126,7 @@ public class ActionList implements Iterable<Action> {
 	 * @return the number of Actions in the collection.
 	 */
 	public int size() {
+		collect();
 		return actions.size();
 	}
 
@@ -107,6 +135,7 @@ public class ActionList implements Iterable<Action> {
 	 * @param action the Action to remove
 	 */
 	public void remove(Action action) {
+		collect();
 		actions.remove(action);
 	}
 
@@ -117,6 +146,7 @@ public class ActionList implements Iterable<Action> {
 	 * @throws IndexOutOfBoundsException when <code>i</code> &gt;= <code>this.size()</code>
 	 */
 	public Action get(int i) {
+		collect();
 		return actions.get(i);
 	}
 	
@@ -125,6 +155,18 @@ public class ActionList implements Iterable<Action> {
 	 * @return an unmodifiable list of Action
 	 */
 	public List<Action> getUnmodifiableActionList() {
+		collect();
 		return Collections.unmodifiableList(actions);
 	}
+
+	/**
+	 * Collect the Actions from the source, if this is a lazy list that hasn't been used yet.
+	 */
+	private void collect() {
+		if (source != null) {
+			Supplier<ActionList> pending = source;
+			source = null;
+			add(pending.get());
+		}
+	}
 }
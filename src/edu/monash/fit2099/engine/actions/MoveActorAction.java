@@ -71,6 +71,18 @@ public class MoveActorAction extends Action {
 		return menuDescription(actor);
 	}
 
+	/**
+	 * The move can only go ahead if nobody else has moved into the destination in the meantime.
+	 *
+	 * @param actor The actor performing the action.
+	 * @param map The map the actor is on.
+	 * @return true if the Actor can still enter the destination
+	 */
+	@Override
+	public boolean isStillValid(Actor actor, GameMap map) {
+		return moveToLocation.canActorEnter(actor);
+	}
+
 	/**
 	 * Returns a description of this movement suitable to display in the menu.
 	 *
@@ -8,11 +8,13 @@ import edu.monash.fit2099.engine.actors.attributes.ActorAttribute;
 import edu.monash.fit2099.engine.actors.attributes.ActorAttributeOperations;
 import edu.monash.fit2099.engine.actors.attributes.BaseActorAttribute;
 import edu.monash.fit2099.engine.actors.attributes.BaseActorAttributes;
+import edu.monash.fit2099.engine.actors.attributes.IntActorAttribute;
 import edu.monash.fit2099.engine.displays.Display;
 import edu.monash.fit2099.engine.displays.Printable;
 import edu.monash.fit2099.engine.weapons.IntrinsicWeapon;
 import edu.monash.fit2099.engine.items.Item;
 import edu.monash.fit2099.engine.positions.GameMap;
+import edu.monash.fit2099.engine.random.GameRandom;
 
 import java.util.*;
 
@@ -32,8 +34,11 @@ public abstract class Actor extends GameEntity implements Printable {
      * which enables more interesting game mechanics.
      * For example, in addition to hit points, another attribute that represents its stamina can be added.
      * If the actor runs out of stamina, it will be unable to perform certain actions, such as attacking.
+     * The {@link BaseActorAttributes} each have a fixed slot, indexed by ordinal, since they are read on every turn;
+     * any other attributes go in a small map.
      */
-    private final Map<Enum<?>, ActorAttribute<Integer>> attributes = new HashMap<>();
+    private final IntActorAttribute[] baseAttributes = new IntActorAttribute[BaseActorAttributes.values().length];
+    private final Map<Enum<?>, IntActorAttribute> otherAttributes = new HashMap<>(4);
     /**
      * Actor's name
      */
@@ -51,6 +56,10 @@ public abstract class Actor extends GameEntity implements Printable {
      */
     private float damageMultiplier;
     private Wallet wallet;
+    /**
+     * This actor's own random stream, used while it is taking its turn
+     */
+    private final SplittableRandom random = GameRandom.split();
 
     /**
      * The constructor of the Actor class.
@@ -72,7 +81,7 @@ public abstract class Actor extends GameEntity implements Printable {
      * @return true if the actor has the queried attribute, false otherwise
      */
     public boolean hasAttribute(Enum<?> name) {
-        return this.attributes.containsKey(name);
+        return this.attribute(name) != null;
     }
 
     /**
@@ -81,7 +90,22 @@ public abstract class Actor extends GameEntity implements Printable {
      * @param attribute an object that implements the {@link ActorAttribute} interface.
      */
     public void addAttribute(Enum<?> name, ActorAttribute<Integer> attribute) {
-        this.attributes.put(name, attribute);
+        IntActorAttribute intAttribute = IntActorAttribute.of(attribute);
+        if (name instanceof BaseActorAttributes)
+            this.baseAttributes[name.ordinal()] = intAttribute;
+        else
+            this.otherAttributes.put(name, intAttribute);
+    }
+
+    /**
+     * Finds an attribute in its slot, or in the map if it isn't one of the {@link BaseActorAttributes}.
+     * @param name the name of the attribute
+     * @return the attribute, or null if the actor doesn't have it
+     */
+    private IntActorAttribute attribute(Enum<?> name) {
+        if (name instanceof BaseActorAttributes)
+            return this.baseAttributes[name.ordinal()];
+        return this.otherAttributes.get(name);
     }
 
     /**
@@ -102,11 +126,11 @@ public abstract class Actor extends GameEntity implements Printable {
      */
     public void modifyAttribute(Enum<?> name, ActorAttributeOperations operation, int value) throws IllegalArgumentException {
         if (operation == ActorAttributeOperations.INCREASE) {
-            this.attributes.get(name).increase(value);
+            this.attribute(name).increase(value);
         } else if (operation == ActorAttributeOperations.DECREASE) {
-            this.attributes.get(name).decrease(value);
+            this.attribute(name).decrease(value);
         } else if (operation == ActorAttributeOperations.UPDATE) {
-            this.attributes.get(name).update(value);
+            this.attribute(name).update(value);
         } else {
             throw new IllegalArgumentException("Invalid operation for modifying the value of actor's attribute.");
         }
@@ -122,11 +146,11 @@ public abstract class Actor extends GameEntity implements Printable {
      */
     public void modifyAttributeMaximum(Enum<?> name, ActorAttributeOperations operation, int value) throws IllegalArgumentException {
         if (operation == ActorAttributeOperations.INCREASE) {
-            this.attributes.get(name).increaseMaximum(value);
+            this.attribute(name).increaseMaximum(value);
         } else if (operation == ActorAttributeOperations.DECREASE) {
-            this.attributes.get(name).decreaseMaximum(value);
+            this.attribute(name).decreaseMaximum(value);
         } else if (operation == ActorAttributeOperations.UPDATE) {
-            this.attributes.get(name).updateMaximum(value);
+            this.attribute(name).updateMaximum(value);
         } else {
             throw new IllegalArgumentException("Invalid operation for modifying the maximum value of actor's attribute.");
         }
@@ -138,7 +162,7 @@ public abstract class Actor extends GameEntity implements Printable {
      * @return the value of the attribute.
      */
     public int getAttribute(Enum<?> name) {
-        return this.attributes.get(name).get();
+        return this.attribute(name).getPoints();
     }
 
     /**
@@ -147,7 +171,17 @@ public abstract class Actor extends GameEntity implements Printable {
      * @return the maximum value of the attribute.
      */
     public int getAttributeMaximum(Enum<?> name) {
-        return this.attributes.get(name).getMaximum();
+        return this.attribute(name).getMaximumPoints();
+    }
+
+    /**
+     * Returns this actor's random stream.
+     * The World binds it to {@link GameRandom#current()} while the actor takes its turn,
+     * so most code never needs to call this directly.
+     * @return the actor's random stream
+     */
+    public SplittableRandom getRandom() {
+        return random;
     }
 
     /**
@@ -262,6 +296,17 @@ public abstract class Actor extends GameEntity implements Printable {
      */
     public abstract Action playTurn(ActionList actions, Action lastAction, GameMap map, Display display);
 
+    /**
+     * Can this Actor choose its Action at the same time as other Actors do?
+     * When the World plans turns in parallel, Actors that return true have playTurn called on a worker
+     * thread before anyone acts, so playTurn must only read the rest of the game and change nothing but this Actor.
+     * Everyone else chooses on their own turn, as usual.
+     * @return true if playTurn is safe to call in parallel; false by default
+     */
+    public boolean canPlanInParallel() {
+        return false;
+    }
+
     /**
      * Returns a new collection of the Actions that the otherActor can do to the current Actor.
      * @param otherActor the Actor that might be performing attack
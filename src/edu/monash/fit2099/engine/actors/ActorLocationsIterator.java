@@ -1,34 +1,40 @@
 package edu.monash.fit2099.engine.actors;
 
 import edu.monash.fit2099.engine.positions.Location;
+import edu.monash.fit2099.engine.positions.OccupancyGrid;
 
 import java.util.*;
 
 /**
  * Represents a bimap of locations and actors. Hence it enforces the one actor
  * per location rule. Has a nifty iterator that lets us modify the collection
- * while iterating it.
+ * while iterating it; the order of the iteration comes from a {@link TurnScheduler}.
  *
+ * Actors are looked up by Location through each GameMap's {@link OccupancyGrid},
+ * which this class keeps up to date.
+ *
+ * Everything except looking up an Actor by Location is synchronized, so that several
+ * GameMaps can tick at once
+ * (see {@link edu.monash.fit2099.engine.positions.World#setParallelMapTicking(boolean)}).
  */
 public class ActorLocationsIterator implements Iterable<Actor> {
-	/**
-	 * A mapping of location to the actor
-	 */
-	private final Map<Location, Actor> locationToActor;
 	/**
 	 * A mapping of actor to location
 	 */
 	private final Map<Actor, Location> actorToLocation;
 	/**
-	 * Current actor
+	 * The order in which Actors take their turns
+	 */
+	private final TurnScheduler turnOrder = new TurnScheduler();
+	/**
+	 * Actors added by the task running on this thread, if it asked to keep track of them
 	 */
-	private Actor player;
+	private final ThreadLocal<List<Actor>> additions = new ThreadLocal<>();
 
 	/**
 	 * Default constructor.
 	 */
 	public ActorLocationsIterator() {
-		locationToActor = new HashMap<Location, Actor>();
 		actorToLocation = new HashMap<Actor, Location>();
 	}
 
@@ -37,8 +43,8 @@ public class ActorLocationsIterator implements Iterable<Actor> {
 	 * The player always gets to go first in any turn.
 	 * @param player the player
 	 */
-	public void setPlayer(Actor player) {
-		this.player = player;
+	public synchronized void setPlayer(Actor player) {
+		turnOrder.setFirst(player);
 	}
 			
 			
@@ -49,14 +55,52 @@ public class ActorLocationsIterator implements Iterable<Actor> {
 	 * @param location where to place the Actor
 	 * @throws IllegalArgumentException if the Actor is already placed or there is already an Actor at the target Location
 	 */
-	public void add(Actor actor, Location location) {
+	public synchronized void add(Actor actor, Location location) {
 		if(actorToLocation.containsKey(actor))
 			throw new IllegalArgumentException();
-		if(locationToActor.containsKey(location))
+		if(isAnActorAt(location))
 			throw new IllegalArgumentException();
 		
 		actorToLocation.put(actor, location);
-		locationToActor.put(location, actor);
+		occupy(location, actor);
+		turnOrder.add(actor);
+
+		List<Actor> added = additions.get();
+		if (added != null)
+			added.add(actor);
+	}
+
+	/**
+	 * Runs a task, keeping track of the Actors it adds.
+	 *
+	 * Actors normally take their turns in the order in which they were added. When tasks run
+	 * on several threads at once that order depends on timing, so the caller can use this to
+	 * collect each task's additions and then put them in a repeatable order with {@link #moveToBack(List)}.
+	 *
+	 * @param task the task to run
+	 * @return the Actors added by the task, in the order they were added
+	 */
+	public List<Actor> recordAdditions(Runnable task) {
+		List<Actor> added = new ArrayList<Actor>();
+		additions.set(added);
+		try {
+			task.run();
+		} finally {
+			additions.remove();
+		}
+		return added;
+	}
+
+	/**
+	 * Moves Actors to the back of the turn order, in the order given.
+	 * Actors that are no longer in the system are ignored.
+	 *
+	 * @param actors the Actors to move
+	 */
+	public synchronized void moveToBack(List<Actor> actors) {
+		for (Actor actor : actors) {
+			turnOrder.moveToBack(actor);
+		}
 	}
 
 	/**
@@ -64,10 +108,11 @@ public class ActorLocationsIterator implements Iterable<Actor> {
 	 *
 	 * @param actor the Actor to remove
 	 */
-	public void remove(Actor actor) {
-		Location location = actorToLocation.get(actor);
-		actorToLocation.remove(actor);
-		locationToActor.remove(location);
+	public synchronized void remove(Actor actor) {
+		Location location = actorToLocation.remove(actor);
+		if (location != null)
+			occupy(location, null);
+		turnOrder.remove(actor);
 	}
 
 	/**
@@ -77,14 +122,15 @@ public class ActorLocationsIterator implements Iterable<Actor> {
 	 * @param newLocation the Actor's destination
 	 * @throws IllegalArgumentException if another Actor is already at that Location
 	 */
-	public void move(Actor actor, Location newLocation) {
+	public synchronized void move(Actor actor, Location newLocation) {
 		if(isAnActorAt(newLocation))
 			throw new IllegalArgumentException("Can't move to another actor");
 
 		Location oldLocation = actorToLocation.get(actor);
 		actorToLocation.put(actor, newLocation);
-		locationToActor.remove(oldLocation);
-		locationToActor.put(newLocation, actor);
+		if (oldLocation != null)
+			occupy(oldLocation, null);
+		occupy(newLocation, actor);
 	}
 
 	/**
@@ -93,28 +139,30 @@ public class ActorLocationsIterator implements Iterable<Actor> {
 	 * @param actor the Actor to look for
 	 * @return true if and only if actor is somewhere in the system
 	 */
-	public boolean contains(Actor actor) {
+	public synchronized boolean contains(Actor actor) {
 		return actorToLocation.containsKey(actor);
 	}
 
 	/**
 	 * Returns true if an Actor is at the given Location.
+	 * Doesn't need the lock, as it only looks at the Location's OccupancyGrid.
 	 *
 	 * @param location the Location to check
 	 * @return true if and only if an Actor is at the given Location.
 	 */
 	public boolean isAnActorAt(Location location) {
-		return locationToActor.containsKey(location);
+		return getActorAt(location) != null;
 	}
 
 	/**
 	 * Returns a reference to the Actor at the given location, if there is one.
+	 * Doesn't need the lock, as it only looks at the Location's OccupancyGrid.
 	 *
 	 * @param location the location to check
 	 * @return a reference to the Actor, or null if there isn't one 
 	 */
 	public Actor getActorAt(Location location) {
-		return locationToActor.get(location);
+		return location.map().getOccupancyGrid().get(location.x(), location.y());
 	}
 
 	/**
@@ -122,32 +170,24 @@ public class ActorLocationsIterator implements Iterable<Actor> {
 	 * @param actor the Actor to look for
 	 * @return the Location containing actor
 	 */
-	public Location locationOf(Actor actor) {
+	public synchronized Location locationOf(Actor actor) {
 		return actorToLocation.get(actor);
 	}
 
 	/**
-	 * Class to allow iterating over all Actors in the system, player first
-	 * This allows Actors to take turns in a known order.
+	 * Iterates over the TurnScheduler while holding the lock, so that other threads can
+	 * add and remove Actors during a turn.
 	 */
 	class ActorIterator implements Iterator<Actor> {
-		Map<Actor, Location> actorLocations;
-		List<Actor> actors;
+		private final Iterator<Actor> turn;
 
 		/**
 		 * Constructor.
 		 *
-		 * @param actorLocations the collection of mappings between Actors and Locations
+		 * @param turn the scheduler's iterator for this turn
 		 */
-		public ActorIterator(Map<Actor, Location> actorLocations) {
-			this.actorLocations = actorLocations;
-			actors = new ArrayList<Actor>(actorLocations.keySet());
-			
-			// Make sure the player is first. 
-			if(actors.contains(player)) {
-				actors.remove(player);
-				actors.add(0, player);
-			}
+		public ActorIterator(Iterator<Actor> turn) {
+			this.turn = turn;
 		}
 
 		/**
@@ -156,12 +196,9 @@ public class ActorLocationsIterator implements Iterable<Actor> {
 		 */
 		@Override
 		public boolean hasNext() {
-			for (Actor actor : actors) {
-				if (actorLocations.containsKey(actor))
-					return true;
+			synchronized (ActorLocationsIterator.this) {
+				return turn.hasNext();
 			}
-
-			return false;
 		}
 
 		/**
@@ -169,21 +206,31 @@ public class ActorLocationsIterator implements Iterable<Actor> {
 		 */
 		@Override
 		public Actor next() {
-			while (!actors.isEmpty()) {
-				Actor actor = actors.remove(0);
-				if (actorLocations.containsKey(actor))
-					return actor;
+			synchronized (ActorLocationsIterator.this) {
+				return turn.next();
 			}
-
-			throw new ConcurrentModificationException();
 		}
 	}
 
 	/**
+	 * Record who is standing at a Location in its map's OccupancyGrid.
+	 *
+	 * @param location the Location
+	 * @param actor    the Actor there now, or null if there is no one
+	 */
+	private void occupy(Location location, Actor actor) {
+		OccupancyGrid occupancy = location.map().getOccupancyGrid();
+		occupancy.set(location.x(), location.y(), actor);
+	}
+
+	/**
+	 * Returns an Iterator over all Actors in the system, player first.
+	 * This allows Actors to take turns in a known order.
+	 *
 	 * @see Iterable#iterator()
 	 */
 	@Override
-	public Iterator<Actor> iterator() {
-		return new ActorIterator(actorToLocation);
+	public synchronized Iterator<Actor> iterator() {
+		return new ActorIterator(turnOrder.iterator());
 	}
 }
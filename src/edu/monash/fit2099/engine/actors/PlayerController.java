@@ -0,0 +1,28 @@
+package edu.monash.fit2099.engine.actors;
+
+import edu.monash.fit2099.engine.actions.Action;
+import edu.monash.fit2099.engine.actions.ActionList;
+import edu.monash.fit2099.engine.positions.GameMap;
+
+/**
+ * Something that can play the player's turns in place of a human at the keyboard.
+ *
+ * A PlayerController is handed the same ActionList the World would have shown in the
+ * player's menu, and must pick one of them (or another Action of its own) without
+ * blocking on input. This lets whole games be run unattended, e.g. for load testing.
+ *
+ * @see edu.monash.fit2099.engine.positions.HeadlessWorld
+ */
+public interface PlayerController {
+
+	/**
+	 * Choose the Action the player will perform this turn.
+	 *
+	 * @param player     the Actor being controlled
+	 * @param actions    the Actions available to the player this turn
+	 * @param lastAction the Action the player took last turn
+	 * @param map        the GameMap containing the player
+	 * @return the Action to be performed
+	 */
+	Action chooseAction(Actor player, ActionList actions, Action lastAction, GameMap map);
+}
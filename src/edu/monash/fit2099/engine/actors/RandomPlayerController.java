@@ -0,0 +1,23 @@
+package edu.monash.fit2099.engine.actors;
+
+import edu.monash.fit2099.engine.actions.Action;
+import edu.monash.fit2099.engine.actions.ActionList;
+import edu.monash.fit2099.engine.positions.GameMap;
+import edu.monash.fit2099.engine.random.GameRandom;
+
+/**
+ * A PlayerController that picks uniformly at random from the available Actions.
+ *
+ * Multi-turn Actions are honoured, just like the player's own menu would.
+ * Choices are drawn from the player's own random stream, so seeded games are repeatable.
+ */
+public class RandomPlayerController implements PlayerController {
+
+	@Override
+	public Action chooseAction(Actor player, ActionList actions, Action lastAction, GameMap map) {
+		if (lastAction.getNextAction() != null)
+			return lastAction.getNextAction();
+
+		return actions.get(GameRandom.current().nextInt(actions.size()));
+	}
+}
@@ -0,0 +1,199 @@
+package edu.monash.fit2099.engine.actors;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Decides the order in which Actors take their turns.
+ *
+ * Actors take their turns in the order in which they were added, except that the player
+ * always goes first. Each Actor sits in a slot of an array and an index maps it back to
+ * its slot, so adding an Actor, removing it (e.g. when it dies part way through a turn)
+ * and sending it to the back of the queue all take constant time. Removing an Actor just
+ * empties its slot; empty slots are squeezed out when the next turn starts.
+ *
+ * A turn is an {@link #iterator() iteration} over the scheduler. It visits the Actors that
+ * were scheduled when it started, skipping any that have been removed since, so Actors
+ * added during a turn wait until the next one.
+ *
+ * This class is not thread-safe. {@link ActorLocationsIterator} looks after that.
+ */
+public class TurnScheduler implements Iterable<Actor> {
+	private static final int INITIAL_CAPACITY = 16;
+
+	/**
+	 * Actors in turn order. Removed Actors leave a null behind.
+	 */
+	private Actor[] slots = new Actor[INITIAL_CAPACITY];
+	/**
+	 * Number of slots in use, including empty ones
+	 */
+	private int size = 0;
+	/**
+	 * Number of empty slots below size
+	 */
+	private int emptySlots = 0;
+	/**
+	 * The slot each scheduled Actor is in
+	 */
+	private final Map<Actor, Integer> index = new HashMap<Actor, Integer>();
+	/**
+	 * The Actor who goes first, if any
+	 */
+	private Actor first;
+
+	/**
+	 * Choose an Actor to go first in every turn, wherever it is in the queue.
+	 *
+	 * @param actor the Actor to go first (normally the player)
+	 */
+	public void setFirst(Actor actor) {
+		first = actor;
+	}
+
+	/**
+	 * Put an Actor at the back of the queue.
+	 *
+	 * @param actor the Actor to add
+	 * @throws IllegalArgumentException if the Actor is already scheduled
+	 */
+	public void add(Actor actor) {
+		if (index.containsKey(actor))
+			throw new IllegalArgumentException();
+
+		if (size == slots.length)
+			slots = Arrays.copyOf(slots, size * 2);
+		slots[size] = actor;
+		index.put(actor, size);
+		size++;
+	}
+
+	/**
+	 * Take an Actor out of the queue. Does nothing if the Actor isn't scheduled.
+	 *
+	 * @param actor the Actor to remove
+	 */
+	public void remove(Actor actor) {
+		Integer slot = index.remove(actor);
+		if (slot != null) {
+			slots[slot] = null;
+			emptySlots++;
+		}
+	}
+
+	/**
+	 * Move an Actor to the back of the queue. Does nothing if the Actor isn't scheduled.
+	 *
+	 * @param actor the Actor to move
+	 */
+	public void moveToBack(Actor actor) {
+		if (index.containsKey(actor)) {
+			remove(actor);
+			add(actor);
+		}
+	}
+
+	/**
+	 * Returns true if the Actor is scheduled.
+	 *
+	 * @param actor the Actor to look for
+	 * @return true if the Actor will get a turn
+	 */
+	public boolean contains(Actor actor) {
+		return index.containsKey(actor);
+	}
+
+	/**
+	 * Start a turn.
+	 *
+	 * @return an Iterator over the scheduled Actors, first Actor first
+	 */
+	@Override
+	public Iterator<Actor> iterator() {
+		if (emptySlots > 0)
+			compact();
+		return new TurnIterator(slots, size);
+	}
+
+	/**
+	 * Squeeze the empty slots out of the queue.
+	 *
+	 * The Actors are copied into a new array, so that turns that are already under way can carry on
+	 * through the old one.
+	 */
+	private void compact() {
+		Actor[] compacted = new Actor[Math.max(INITIAL_CAPACITY, index.size() * 2)];
+		int count = 0;
+		for (int i = 0; i < size; i++) {
+			Actor actor = slots[i];
+			if (actor != null) {
+				compacted[count] = actor;
+				index.put(actor, count);
+				count++;
+			}
+		}
+		slots = compacted;
+		size = count;
+		emptySlots = 0;
+	}
+
+	/**
+	 * Walks over the queue as it was when the turn started.
+	 */
+	private class TurnIterator implements Iterator<Actor> {
+		private final Actor[] turn;
+		private final int end;
+		private int position = 0;
+		private boolean firstPending;
+		private Actor nextActor;
+
+		/**
+		 * Constructor.
+		 *
+		 * @param turn the slots at the start of the turn
+		 * @param end  the number of slots in use at the start of the turn
+		 */
+		private TurnIterator(Actor[] turn, int end) {
+			this.turn = turn;
+			this.end = end;
+			this.firstPending = first != null && index.containsKey(first);
+		}
+
+		@Override
+		public boolean hasNext() {
+			if (nextActor != null)
+				return true;
+
+			if (firstPending) {
+				firstPending = false;
+				if (index.containsKey(first)) {
+					nextActor = first;
+					return true;
+				}
+			}
+
+			while (position < end) {
+				Actor actor = turn[position++];
+				// The first Actor has had its turn already; anyone else may have been removed since the turn started
+				if (actor != null && actor != first && index.containsKey(actor)) {
+					nextActor = actor;
+					return true;
+				}
+			}
+			return false;
+		}
+
+		@Override
+		public Actor next() {
+			if (!hasNext())
+				throw new NoSuchElementException();
+
+			Actor actor = nextActor;
+			nextActor = null;
+			return actor;
+		}
+	}
+}
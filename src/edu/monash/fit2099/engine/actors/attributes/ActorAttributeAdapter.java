@@ -0,0 +1,56 @@
+package edu.monash.fit2099.engine.actors.attributes;
+
+/**
+ * Lets an attribute written against the generic {@link ActorAttribute} interface be used as an {@link IntActorAttribute}.
+ */
+class ActorAttributeAdapter implements IntActorAttribute {
+    private final ActorAttribute<Integer> attribute;
+
+    /**
+     * Constructor.
+     * @param attribute the attribute to adapt
+     */
+    ActorAttributeAdapter(ActorAttribute<Integer> attribute) {
+        this.attribute = attribute;
+    }
+
+    @Override
+    public void update(int points) {
+        attribute.update(points);
+    }
+
+    @Override
+    public void increase(int points) {
+        attribute.increase(points);
+    }
+
+    @Override
+    public void decrease(int points) {
+        attribute.decrease(points);
+    }
+
+    @Override
+    public int getPoints() {
+        return attribute.get();
+    }
+
+    @Override
+    public int getMaximumPoints() {
+        return attribute.getMaximum();
+    }
+
+    @Override
+    public void updateMaximum(int points) {
+        attribute.updateMaximum(points);
+    }
+
+    @Override
+    public void increaseMaximum(int points) {
+        attribute.increaseMaximum(points);
+    }
+
+    @Override
+    public void decreaseMaximum(int points) {
+        attribute.decreaseMaximum(points);
+    }
+}
@@ -2,8 +2,11 @@ package edu.monash.fit2099.engine.actors.attributes;
 
 /**
  * A class that represents a basic attribute of an actor, such as health.
+ * The points are kept as plain ints.
+ * Actors only call the int methods, so the Integer methods are final and simply pass their points on:
+ * subclasses change how the attribute behaves by overriding the int methods.
  */
-public class BaseActorAttribute implements ActorAttribute<Integer> {
+public class BaseActorAttribute implements IntActorAttribute {
     private int maximumPoints;
     private int points;
 
@@ -22,7 +25,7 @@ public class BaseActorAttribute implements ActorAttribute<Integer> {
      * @param points the points to overwrite the current points of the attribute
      */
     @Override
-    public void update(Integer points) {
+    public void update(int points) {
         this.points = Math.min(points, maximumPoints);
     }
 
@@ -32,7 +35,7 @@ public class BaseActorAttribute implements ActorAttribute<Integer> {
      * @param points the points to increase the current points of the attribute
      */
     @Override
-    public void increase(Integer points) {
+    public void increase(int points) {
         this.points += points;
         this.points = Math.min(this.points, maximumPoints);
     }
@@ -44,7 +47,7 @@ public class BaseActorAttribute implements ActorAttribute<Integer> {
      * @param points the points to decrease the current points of the attribute
      */
     @Override
-    public void decrease(Integer points) {
+    public void decrease(int points) {
         this.points -= points;
         this.points = Math.max(this.points, 0);
     }
@@ -54,7 +57,7 @@ public class BaseActorAttribute implements ActorAttribute<Integer> {
      * @return the current points of the attribute
      */
     @Override
-    public Integer get() {
+    public int getPoints() {
         return points;
     }
 
@@ -63,7 +66,7 @@ public class BaseActorAttribute implements ActorAttribute<Integer> {
      * @return the maximum points of the attribute
      */
     @Override
-    public Integer getMaximum() {
+    public int getMaximumPoints() {
         return maximumPoints;
     }
 
@@ -72,7 +75,7 @@ public class BaseActorAttribute implements ActorAttribute<Integer> {
      * @param points the points to overwrite the current maximum points of the attribute
      */
     @Override
-    public void updateMaximum(Integer points) {
+    public void updateMaximum(int points) {
         this.maximumPoints = points;
         this.points = maximumPoints;
     }
@@ -83,7 +86,7 @@ public class BaseActorAttribute implements ActorAttribute<Integer> {
      * @param points the points to increase the current maximum points of the attribute
      */
     @Override
-    public void increaseMaximum(Integer points) {
+    public void increaseMaximum(int points) {
         this.maximumPoints += points;
     }
 
@@ -93,8 +96,80 @@ public class BaseActorAttribute implements ActorAttribute<Integer> {
      * @param points the points to decrease the current maximum points of the attribute
      */
     @Override
-    public void decreaseMaximum(Integer points) {
+    public void decreaseMaximum(int points) {
         this.maximumPoints -= points;
         this.points = Math.min(this.points, maximumPoints);
     }
+
+    /**
+     * Same as {@link #update(int)}.
+     * @param points the points
+     */
+    @Override
+    public final void update(Integer points) {
+        update(points.intValue());
+    }
+
+    /**
+     * Same as {@link #increase(int)}.
+     * @param points the points
+     */
+    @Override
+    public final void increase(Integer points) {
+        increase(points.intValue());
+    }
+
+    /**
+     * Same as {@link #decrease(int)}.
+     * @param points the points
+     */
+    @Override
+    public final void decrease(Integer points) {
+        decrease(points.intValue());
+    }
+
+    /**
+     * Same as {@link #getPoints()}.
+     * @return the points
+     */
+    @Override
+    public final Integer get() {
+        return getPoints();
+    }
+
+    /**
+     * Same as {@link #getMaximumPoints()}.
+     * @return the points
+     */
+    @Override
+    public final Integer getMaximum() {
+        return getMaximumPoints();
+    }
+
+    /**
+     * Same as {@link #updateMaximum(int)}.
+     * @param points the points
+     */
+    @Override
+    public final void updateMaximum(Integer points) {
+        updateMaximum(points.intValue());
+    }
+
+    /**
+     * Same as {@link #increaseMaximum(int)}.
+     * @param points the points
+     */
+    @Override
+    public final void increaseMaximum(Integer points) {
+        increaseMaximum(points.intValue());
+    }
+
+    /**
+     * Same as {@link #decreaseMaximum(int)}.
+     * @param points the points
+     */
+    @Override
+    public final void decreaseMaximum(Integer points) {
+        decreaseMaximum(points.intValue());
+    }
 }
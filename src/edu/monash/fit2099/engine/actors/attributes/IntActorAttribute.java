@@ -0,0 +1,115 @@
+package edu.monash.fit2099.engine.actors.attributes;
+
+/**
+ * An attribute of an actor whose points are plain ints.
+ * Actors read and change these without boxing the points into Integers.
+ * The methods of {@link ActorAttribute} still work, and simply unbox their arguments.
+ */
+public interface IntActorAttribute extends ActorAttribute<Integer> {
+    /**
+     * Overwrites the current points of the attribute with the given points.
+     * @param points the points to overwrite the current points of the attribute
+     */
+    void update(int points);
+
+    /**
+     * Increases the current points of the attribute by the given points.
+     * @param points the points to increase the current points of the attribute
+     */
+    void increase(int points);
+
+    /**
+     * Decreases the current points of the attribute by the given points.
+     * @param points the points to decrease the current points of the attribute
+     */
+    void decrease(int points);
+
+    /**
+     * Getter for the current points of the attribute.
+     * @return the current points of the attribute
+     */
+    int getPoints();
+
+    /**
+     * Getter for the maximum points of the attribute.
+     * @return the maximum points of the attribute
+     */
+    default int getMaximumPoints() {
+        return getPoints();
+    }
+
+    /**
+     * Overwrites the current maximum points of the attribute with the given points.
+     * @param points the points to overwrite the current maximum points of the attribute
+     */
+    default void updateMaximum(int points) {
+        update(points);
+    }
+
+    /**
+     * Increases the current maximum points of the attribute by the given points.
+     * @param points the points to increase the current maximum points of the attribute
+     */
+    default void increaseMaximum(int points) {
+        increase(points);
+    }
+
+    /**
+     * Decreases the current maximum points of the attribute by the given points.
+     * @param points the points to decrease the current maximum points of the attribute
+     */
+    default void decreaseMaximum(int points) {
+        decrease(points);
+    }
+
+    @Override
+    default void update(Integer points) {
+        update(points.intValue());
+    }
+
+    @Override
+    default void increase(Integer points) {
+        increase(points.intValue());
+    }
+
+    @Override
+    default void decrease(Integer points) {
+        decrease(points.intValue());
+    }
+
+    @Override
+    default Integer get() {
+        return getPoints();
+    }
+
+    @Override
+    default Integer getMaximum() {
+        return getMaximumPoints();
+    }
+
+    @Override
+    default void updateMaximum(Integer points) {
+        updateMaximum(points.intValue());
+    }
+
+    @Override
+    default void increaseMaximum(Integer points) {
+        increaseMaximum(points.intValue());
+    }
+
+    @Override
+    default void decreaseMaximum(Integer points) {
+        decreaseMaximum(points.intValue());
+    }
+
+    /**
+     * Returns an IntActorAttribute for any attribute with Integer points.
+     * @param attribute the attribute
+     * @return the attribute itself if it is already an IntActorAttribute, otherwise an adapter that boxes and unboxes the points
+     */
+    static IntActorAttribute of(ActorAttribute<Integer> attribute) {
+        if (attribute instanceof IntActorAttribute)
+            return (IntActorAttribute) attribute;
+        return new ActorAttributeAdapter(attribute);
+    }
+}
@@ -0,0 +1,27 @@
+package edu.monash.fit2099.engine.capabilities;
+
+import edu.monash.fit2099.engine.GameEntity;
+
+/**
+ * Something that wants to know when a GameEntity gains or loses a capability.
+ *
+ * @see GameEntity#setCapabilityListener(CapabilityListener)
+ */
+public interface CapabilityListener {
+
+	/**
+	 * Called after an entity gains a capability it didn't have.
+	 *
+	 * @param entity     the entity
+	 * @param capability the capability it gained
+	 */
+	void capabilityAdded(GameEntity entity, Enum<?> capability);
+
+	/**
+	 * Called after an entity loses a capability it had.
+	 *
+	 * @param entity     the entity
+	 * @param capability the capability it lost
+	 */
+	void capabilityRemoved(GameEntity entity, Enum<?> capability);
+}
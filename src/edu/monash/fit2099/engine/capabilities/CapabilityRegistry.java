@@ -0,0 +1,112 @@
+package edu.monash.fit2099.engine.capabilities;
+
+import java.util.Arrays;
+
+/**
+ * Gives every enum constant used as a capability its own bit, so that a {@link CapabilitySet} can be a bitset.
+ *
+ * Each enum type gets a range of bits, one per constant, in the order the types are registered.
+ * Register the game's enum types at startup with {@link #register(Class[])} so that their bits are the
+ * same in every run; any other enum type is given the next free range the first time it is used.
+ *
+ * This class is thread-safe.
+ */
+public final class CapabilityRegistry {
+
+	/**
+	 * The first bit of each enum type's range
+	 */
+	private static final ClassValue<Integer> OFFSETS = new ClassValue<Integer>() {
+		@Override
+		protected Integer computeValue(Class<?> type) {
+			return allocate(type);
+		}
+	};
+
+	/**
+	 * The enum constant for each bit in use
+	 */
+	private static volatile Enum<?>[] constants = new Enum<?>[0];
+
+	private CapabilityRegistry() {
+	}
+
+	/**
+	 * Give enum types their bit ranges, in the order given.
+	 *
+	 * Types that already have a range keep it.
+	 *
+	 * @param enumTypes the enum types that will be used as capabilities
+	 */
+	@SafeVarargs
+	public static void register(Class<? extends Enum<?>>... enumTypes) {
+		for (Class<? extends Enum<?>> enumType : enumTypes) {
+			OFFSETS.get(enumType);
+		}
+	}
+
+	/**
+	 * Returns the bit for an enum constant.
+	 *
+	 * @param capability the enum constant
+	 * @return its bit
+	 */
+	public static int bitOf(Enum<?> capability) {
+		return OFFSETS.get(capability.getDeclaringClass()) + capability.ordinal();
+	}
+
+	/**
+	 * Returns the first bit of an enum type's range.
+	 *
+	 * @param enumType the enum type
+	 * @return the bit of its first constant
+	 */
+	public static int offsetOf(Class<? extends Enum<?>> enumType) {
+		return OFFSETS.get(enumType);
+	}
+
+	/**
+	 * Returns the enum constant for a bit.
+	 *
+	 * @param bit a bit that is in use
+	 * @return the enum constant it stands for
+	 */
+	public static Enum<?> constantAt(int bit) {
+		return constants[bit];
+	}
+
+	/**
+	 * Returns the number of bits in use.
+	 *
+	 * @return one more than the highest bit given out so far
+	 */
+	public static int size() {
+		return constants.length;
+	}
+
+	/**
+	 * Give an enum type the next free range of bits.
+	 *
+	 * @param type the enum type
+	 * @return the first bit of its range
+	 * @throws IllegalArgumentException if the type isn't an enum
+	 */
+	private static synchronized int allocate(Class<?> type) {
+		if (!type.isEnum())
+			throw new IllegalArgumentException(type.getName() + " is not an enum");
+
+		Enum<?>[] values = (Enum<?>[]) type.getEnumConstants();
+		Enum<?>[] current = constants;
+		// Another thread may have won the race to compute this type's range
+		for (int bit = 0; bit < current.length; bit++) {
+			if (current[bit].getDeclaringClass() == type)
+				return bit;
+		}
+
+		int offset = current.length;
+		Enum<?>[] grown = Arrays.copyOf(current, offset + values.length);
+		System.arraycopy(values, 0, grown, offset, values.length);
+		constants = grown;
+		return offset;
+	}
+}
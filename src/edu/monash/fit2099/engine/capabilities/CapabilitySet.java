@@ -1,9 +1,8 @@
 package edu.monash.fit2099.engine.capabilities;
 
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 /**
  * A collection of Capability objects.
@@ -11,14 +10,18 @@ import java.util.stream.Collectors;
  * whether Items provided (or required) certain abilities, whether terrain was passable under particular
  * circumstances, etc.  Consider Capabilities an all-purpose mechanism for enabling game capabilities, statuses, etc.
  * Don't be too literal about the name. You can keep all sorts of things in here.
- * PURPLE, FLAT, HOUSE_RAVENCLAW, TEAM_HERBIVORE, etc.  
+ * PURPLE, FLAT, HOUSE_RAVENCLAW, TEAM_HERBIVORE, etc.
  * Any Enum type can be used to represent a Capability, so these classes can and should be defined in the game client.
+ *
+ * The capabilities are kept as a bitset, using the bits given out by the {@link CapabilityRegistry}.
  */
 public class CapabilitySet {
+	private static final long[] NONE = new long[0];
+
 	/**
-	 * The set of capability (uniques only)
+	 * The set of capability (uniques only), one bit per capability
 	 */
-	private final Set<Enum<?>> capabilitySet = new HashSet<>();
+	private long[] words = NONE;
 
 	/**
 	 * Check if this instance has capability
@@ -26,48 +29,84 @@ public class CapabilitySet {
 	 * @return true if it has the capability, false otherwise
 	 */
 	public boolean hasCapability(Enum<?> capability) {
-		return capabilitySet.contains(capability);
+		int bit = CapabilityRegistry.bitOf(capability);
+		int word = bit >>> 6;
+		return word < words.length && (words[word] & (1L << bit)) != 0;
 	}
 
 	/**
 	 * Attach capability/status to the instance
 	 * @param capability enum
+	 * @return true if the instance didn't already have it
 	 */
-	public void addCapability(Enum<?> capability) {
-		if(!hasCapability(capability)){
-			capabilitySet.add(capability);
-		}
+	public boolean addCapability(Enum<?> capability) {
+		int bit = CapabilityRegistry.bitOf(capability);
+		int word = bit >>> 6;
+		if (word >= words.length)
+			words = Arrays.copyOf(words, word + 1);
+		long before = words[word];
+		words[word] |= 1L << bit;
+		return words[word] != before;
 	}
 
 	/**
 	 * Detach capability/status from the instance
 	 * @param capability enum
+	 * @return true if the instance had it
 	 */
-	public void removeCapability(Enum<?> capability) {
-		if(hasCapability(capability)){
-			capabilitySet.remove(capability);
-		}
+	public boolean removeCapability(Enum<?> capability) {
+		int bit = CapabilityRegistry.bitOf(capability);
+		int word = bit >>> 6;
+		if (word >= words.length)
+			return false;
+		long before = words[word];
+		words[word] &= ~(1L << bit);
+		return words[word] != before;
 	}
 
 	/**
 	 * Get unmodifiable capabilities list to avoid privacy leak
-	 * @return unmodifiable list of capabilities
+	 * @return unmodifiable list of capabilities, in the order of their bits
 	 */
 	public List<Enum<?>> capabilitiesList(){
-		return List.copyOf(capabilitySet);
+		List<Enum<?>> capabilities = new ArrayList<>();
+		for (int word = 0; word < words.length; word++) {
+			for (long bits = words[word]; bits != 0; bits &= bits - 1) {
+				capabilities.add(CapabilityRegistry.constantAt((word << 6) + Long.numberOfTrailingZeros(bits)));
+			}
+		}
+		return List.copyOf(capabilities);
 	}
 
 	/**
 	 * Get unmodifiable capabilities by a specific enum type
+	 *
+	 * Only the words holding that type's range of bits are looked at.
+	 *
 	 * @param <T> Enum type
 	 * @param enumType Class type, to be filtered later
 	 * @return list of enums based on type, empty list if type is not in the set.
 	 */
 	@SuppressWarnings("unchecked")
 	public <T extends Enum<?>> List<T> findCapabilitiesByType(Class<T> enumType){
-		return capabilitySet.stream()
-				.filter(c -> c.getDeclaringClass().equals(enumType))
-				.map(response -> (T) response)
-				.collect(Collectors.toList());
+		T[] constants = enumType.getEnumConstants();
+		if (constants == null || constants.length == 0)
+			return List.of();
+
+		int start = CapabilityRegistry.offsetOf(enumType);
+		int end = Math.min(start + constants.length, words.length << 6);
+		List<T> found = new ArrayList<>();
+		for (int bit = start; bit < end; bit++) {
+			long word = words[bit >>> 6] >>> bit;
+			if (word == 0) {
+				// Nothing more in this word: skip to the next one
+				bit |= 63;
+				continue;
+			}
+			bit += Long.numberOfTrailingZeros(word);
+			if (bit < end)
+				found.add(constants[bit - start]);
+		}
+		return List.copyOf(found);
 	}
 }
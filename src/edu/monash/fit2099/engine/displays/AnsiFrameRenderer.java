@@ -0,0 +1,140 @@
+package edu.monash.fit2099.engine.displays;
+
+import java.io.PrintStream;
+
+/**
+ * Keeps the frame at the top of an ANSI terminal and only rewrites the characters that have changed.
+ *
+ * The first frame (and any frame of a different size) clears the screen and is drawn in full. After that,
+ * each frame is compared with the one before, and only the runs of characters that differ are written, each
+ * after an ANSI escape that moves the cursor to it. If nothing has changed, the frame isn't written at all.
+ * Everything for one frame goes to the terminal in a single write.
+ *
+ * The lines below the frame are made the terminal's scrolling region, and a full redraw leaves the cursor at
+ * the top of them. After that the cursor is put back where it was once the changes are written, so the
+ * messages and menus printed between frames stay on the screen and scroll up under the frame as more are
+ * printed. The whole screen scrolls again when the program exits.
+ */
+public class AnsiFrameRenderer implements FrameRenderer {
+
+	private static final String ESCAPE = "\u001b[";
+	private static final String CLEAR_SCREEN = ESCAPE + "2J";
+	private static final String CLEAR_BELOW = ESCAPE + "J";
+	private static final String SAVE_CURSOR = "\u001b7";
+	private static final String RESTORE_CURSOR = "\u001b8";
+	private static final String RESET_SCROLL_REGION = ESCAPE + "r";
+	/**
+	 * Terminals stop the cursor at the last row
+	 */
+	private static final String BOTTOM_LEFT = ESCAPE + "999;1H";
+	/**
+	 * Unchanged characters between two changes are rewritten if that is shorter than moving the cursor past them
+	 */
+	private static final int MAX_GAP = 6;
+
+	private final PrintStream out;
+	private char[] previous;
+	private int previousWidth;
+	private int previousHeight;
+	private boolean resetOnExit = false;
+
+	/**
+	 * Constructor for a renderer that writes to the console, in order with everything else the Displays write.
+	 */
+	public AnsiFrameRenderer() {
+		this(OutputQueue.stream());
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param out where to write the frames; should be an ANSI terminal
+	 */
+	public AnsiFrameRenderer(PrintStream out) {
+		this.out = out;
+	}
+
+	@Override
+	public void render(char[] frame, int width, int height) {
+		StringBuilder text = new StringBuilder();
+		if (previous == null || width != previousWidth || height != previousHeight) {
+			text.append(CLEAR_SCREEN);
+			for (int row = 0; row < height; row++) {
+				moveTo(text, row, 0);
+				text.append(frame, row * width, width);
+			}
+			scrollBelow(text, height);
+			moveTo(text, height, 0);
+			text.append(CLEAR_BELOW);
+		} else {
+			for (int row = 0; row < height; row++) {
+				appendChangedRuns(text, frame, row, width);
+			}
+			if (text.length() > 0) {
+				text.insert(0, SAVE_CURSOR);
+				text.append(RESTORE_CURSOR);
+			}
+		}
+
+		if (text.length() > 0) {
+			out.print(text);
+			out.flush();
+		}
+
+		previous = frame;
+		previousWidth = width;
+		previousHeight = height;
+	}
+
+	/**
+	 * Make the lines below the frame the only ones that scroll.
+	 */
+	private void scrollBelow(StringBuilder text, int height) {
+		text.append(ESCAPE).append(height + 1).append('r');
+		if (!resetOnExit) {
+			resetOnExit = true;
+			Runtime.getRuntime().addShutdownHook(new Thread(this::resetScrollRegion, "ansi-reset"));
+		}
+	}
+
+	/**
+	 * Let the whole screen scroll again, leaving the cursor at the bottom so that nothing is written over the frame.
+	 */
+	private void resetScrollRegion() {
+		out.print(RESET_SCROLL_REGION + BOTTOM_LEFT + System.lineSeparator());
+		out.flush();
+		if (out == OutputQueue.stream())
+			OutputQueue.flush();
+	}
+
+	/**
+	 * Write the runs of characters in a row that differ from the previous frame.
+	 * Runs separated by only a few unchanged characters are written as one.
+	 */
+	private void appendChangedRuns(StringBuilder text, char[] frame, int row, int width) {
+		int start = row * width;
+		int column = 0;
+		while (column < width) {
+			if (frame[start + column] == previous[start + column]) {
+				column++;
+				continue;
+			}
+
+			int end = column + 1;
+			for (int next = end; next < width && next - end <= MAX_GAP; next++) {
+				if (frame[start + next] != previous[start + next])
+					end = next + 1;
+			}
+			moveTo(text, row, column);
+			text.append(frame, start + column, end - column);
+			column = end;
+		}
+	}
+
+	/**
+	 * Move the cursor. ANSI rows and columns start from 1.
+	 */
+	private static void moveTo(StringBuilder text, int row, int column) {
+		text.append(ESCAPE).append(row + 1).append(';').append(column + 1).append('H');
+	}
+}
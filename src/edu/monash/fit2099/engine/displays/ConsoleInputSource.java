@@ -0,0 +1,28 @@
+package edu.monash.fit2099.engine.displays;
+
+import java.util.Scanner;
+
+/**
+ * Reads keys typed at the console.
+ *
+ * Each entry is a word followed by Enter; the key is the first character of the word.
+ */
+public class ConsoleInputSource implements InputSource {
+
+	/**
+	 * Input
+	 */
+	private final Scanner keyboard = new Scanner(System.in);
+
+	/**
+	 * Read the next key from the keyboard.
+	 *
+	 * @return the first char of the next entered string.
+	 * @throws java.util.NoSuchElementException if the console has been closed
+	 */
+	@Override
+	public char readChar() {
+		String s = keyboard.next();
+		return s.charAt(0);
+	}
+}
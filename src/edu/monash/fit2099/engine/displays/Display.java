@@ -1,16 +1,113 @@
 package edu.monash.fit2099.engine.displays;
 
-import java.util.Scanner;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.Charset;
+import java.util.Objects;
 
 /**
  * Class that manages I/O for the system
+ *
+ * Output from every Display goes to the console, in order, through a single queue that is written out on a
+ * background thread, so that the game doesn't wait for the terminal. The queue is flushed before reading input.
+ *
+ * Output can also be held back while a task runs (see {@link #capture(Runnable)}), so that tasks running at
+ * the same time on different threads can have their output written out in a fixed order afterwards.
  */
 public class Display  {
 
 	/**
-	 * Input
+	 * Input, shared by every Display
 	 */
-	private final Scanner keyboard = new Scanner(System.in);
+	private static volatile InputSource input = new ConsoleInputSource();
+	/**
+	 * Where Displays on each thread are writing to while their output is being captured
+	 */
+	private static final ThreadLocal<PrintStream> captured = new ThreadLocal<>();
+	/**
+	 * Where output goes while every Display is muted
+	 */
+	private static final PrintStream NOWHERE = new PrintStream(OutputStream.nullOutputStream());
+	/**
+	 * Whether every Display is throwing its output away
+	 */
+	private static volatile boolean muted = false;
+	/**
+	 * Writes whole frames, such as the map
+	 */
+	private FrameRenderer frameRenderer = new PlainFrameRenderer();
+
+	/**
+	 * Choose where every Display reads keys from, e.g. a script or a recording of the console.
+	 *
+	 * @param source the source of keys
+	 */
+	public static void setInputSource(InputSource source) {
+		input = Objects.requireNonNull(source);
+	}
+
+	/**
+	 * Returns where every Display reads keys from.
+	 *
+	 * @return the source of keys
+	 */
+	public static InputSource getInputSource() {
+		return input;
+	}
+
+	/**
+	 * Mute or unmute every Display, e.g. so that a game running without a player watching prints only
+	 * now and then. Input isn't affected.
+	 *
+	 * @param mute true to throw away everything printed until unmuted
+	 */
+	public static void setMuted(boolean mute) {
+		muted = mute;
+	}
+
+	/**
+	 * Run a task, holding back everything any Display prints on this thread while it runs.
+	 *
+	 * @param task the task to run
+	 * @return what was printed, to be written out later with {@link #print(String)}
+	 */
+	public static String capture(Runnable task) {
+		PrintStream outer = captured.get();
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		captured.set(new PrintStream(bytes, false, Charset.defaultCharset()));
+		try {
+			task.run();
+		} finally {
+			captured.get().flush();
+			if (outer != null)
+				captured.set(outer);
+			else
+				captured.remove();
+		}
+		return bytes.toString(Charset.defaultCharset());
+	}
+
+	/**
+	 * Returns where this thread's output goes.
+	 *
+	 * @return nowhere if muted, otherwise the capture in progress on this thread, or the console queue
+	 */
+	private static PrintStream out() {
+		if (muted)
+			return NOWHERE;
+		PrintStream stream = captured.get();
+		return stream != null ? stream : OutputQueue.stream();
+	}
+
+	/**
+	 * Choose how whole frames are written, e.g. an {@link AnsiFrameRenderer} to only rewrite what has changed.
+	 *
+	 * @param frameRenderer the renderer to use
+	 */
+	public void setFrameRenderer(FrameRenderer frameRenderer) {
+		this.frameRenderer = Objects.requireNonNull(frameRenderer);
+	}
 
 	/**
 	 * Display a displayable object.
@@ -18,7 +115,18 @@ public class Display  {
 	 * @param printable the object to display
 	 */
 	public void print(Printable printable) {
-		System.out.print(printable.getDisplayChar());
+		out().print(printable.getDisplayChar());
+	}
+
+	/**
+	 * Display a whole frame, such as a drawing of the map, in one go.
+	 *
+	 * @param frame  the characters of the frame, row by row; must not be changed afterwards
+	 * @param width  the number of characters in each row
+	 * @param height the number of rows
+	 */
+	public void printFrame(char[] frame, int width, int height) {
+		frameRenderer.render(frame, width, height);
 	}
 
 	/**
@@ -27,7 +135,7 @@ public class Display  {
 	 * @param s the string
 	 */
 	public void print(String s) {
-		System.out.print(s);
+		out().print(s);
 	}
 
 	/**
@@ -35,23 +143,32 @@ public class Display  {
 	 * @param s the string to print
 	 */
 	public void println(String s) {
-		System.out.println(s);
+		out().println(s);
 	}
 
 	/**
 	 * Terminates the line.
 	 */
 	public void endLine() {
-		System.out.println("");
+		out().println("");
+	}
+
+	/**
+	 * Wait until everything displayed so far has been written to the console.
+	 */
+	public void flush() {
+		OutputQueue.flush();
 	}
 
 	/**
-	 * Read a char from the keyboard.
+	 * Read a char from the keyboard, or whatever the input source is.
+	 *
+	 * Everything displayed so far is written out first.
 	 * 
 	 * @return the first char of the next entered string.
 	 */
 	public char readChar() {
-		String s = keyboard.next();
-		return s.charAt(0);
+		flush();
+		return input.readChar();
 	}
 }
@@ -0,0 +1,22 @@
+package edu.monash.fit2099.engine.displays;
+
+/**
+ * Writes a whole frame (e.g. a drawing of a GameMap) to the terminal in one go.
+ *
+ * A frame is a grid of characters, stored row by row in a single array.
+ *
+ * @see Display#printFrame(char[], int, int)
+ */
+public interface FrameRenderer {
+
+	/**
+	 * Write a frame.
+	 *
+	 * The renderer may keep the array until the next frame, so the caller must not change it afterwards.
+	 *
+	 * @param frame  the characters of the frame, row by row
+	 * @param width  the number of characters in each row
+	 * @param height the number of rows
+	 */
+	void render(char[] frame, int width, int height);
+}
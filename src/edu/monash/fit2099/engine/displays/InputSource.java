@@ -0,0 +1,20 @@
+package edu.monash.fit2099.engine.displays;
+
+/**
+ * Where the keys the player presses come from.
+ *
+ * Normally this is the console, but keys can also come from a script, or be recorded as they are read
+ * so that a session can be replayed later.
+ *
+ * @see Display#setInputSource(InputSource)
+ */
+public interface InputSource {
+
+	/**
+	 * Read the next key.
+	 *
+	 * @return the key
+	 * @throws java.util.NoSuchElementException if there are no more keys
+	 */
+	char readChar();
+}
@@ -4,10 +4,12 @@ import edu.monash.fit2099.engine.actions.Action;
 import edu.monash.fit2099.engine.actions.ActionList;
 import edu.monash.fit2099.engine.actors.Actor;
 
+import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * A menu GUI implementations
@@ -67,9 +69,59 @@ public class Menu {
             display.println(previousPageHotKey + ": " + updatePageAction.menuDescription(actor));
         }
 
-        List<Action> sortedActions = actions.sorted(new SortHotkeysFirst());
-
         // Show with the actions with hotkeys first;
+        for (Map.Entry<Character, Action> entry : actionKeys(page, freeChars)) {
+            keyToActionMap.put(entry.getKey(), entry.getValue());
+            display.println(entry.getKey() + ": " + entry.getValue().menuDescription(actor));
+        }
+
+        char key;
+        do {
+            key = display.readChar();
+        } while (!keyToActionMap.containsKey(key));
+
+        return keyToActionMap.get(key);
+    }
+
+    /**
+     * Returns the keys that choose an Action from this menu, starting on its first page, as a player would type them.
+     *
+     * @param action the Action to choose
+     * @return the keys to press, or null if the Action can't be chosen from this menu
+     */
+    public String keysFor(Action action) {
+        StringBuilder keys = new StringBuilder();
+        for (int page = 1; page <= totalPage; page++) {
+            ArrayList<Character> freeChars = new ArrayList<Character>();
+            for (char j = 'a'; j <= 'z'; j++) {
+                freeChars.add(j);
+            }
+
+            Character found = null;
+            HashMap<Character, Action> keyToActionMap = new HashMap<Character, Action>();
+            for (Map.Entry<Character, Action> entry : actionKeys(page, freeChars)) {
+                keyToActionMap.put(entry.getKey(), entry.getValue());
+                if (entry.getValue() == action)
+                    found = entry.getKey();
+            }
+            // A later Action with the same hotkey takes its place in the menu
+            if (found != null)
+                return keyToActionMap.get(found) == action ? keys.append(found).toString() : null;
+            keys.append('>');
+        }
+        return null;
+    }
+
+    /**
+     * Gives the Actions on a page of the menu their keys: their own hotkey, or else the first free letter.
+     *
+     * @param page      the page number of the menu
+     * @param freeChars the letters not yet used; those given out are removed
+     * @return each Action on the page with its key, in the order they are shown
+     */
+    private List<Map.Entry<Character, Action>> actionKeys(int page, List<Character> freeChars) {
+        List<Action> sortedActions = actions.sorted(new SortHotkeysFirst());
+        List<Map.Entry<Character, Action>> keys = new ArrayList<Map.Entry<Character, Action>>();
         for (int k = (page - 1) * MAXIMUM_PAGE_LENGTH; k < Math.min(page * MAXIMUM_PAGE_LENGTH, sortedActions.size()); k++) {
             String hotKey = sortedActions.get(k).hotkey();
             char c;
@@ -79,16 +131,9 @@ public class Menu {
                 c = hotKey.charAt(0);
             }
             freeChars.remove(Character.valueOf(c));
-            keyToActionMap.put(c, sortedActions.get(k));
-            display.println(c + ": " + sortedActions.get(k).menuDescription(actor));
+            keys.add(new AbstractMap.SimpleImmutableEntry<Character, Action>(c, sortedActions.get(k)));
         }
-
-        char key;
-        do {
-            key = display.readChar();
-        } while (!keyToActionMap.containsKey(key));
-
-        return keyToActionMap.get(key);
+        return keys;
     }
 
     /**
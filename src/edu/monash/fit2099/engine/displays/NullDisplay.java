@@ -0,0 +1,40 @@
+package edu.monash.fit2099.engine.displays;
+
+/**
+ * A Display that throws away everything written to it.
+ *
+ * Useful when running the game without a human watching, e.g. from a
+ * {@link edu.monash.fit2099.engine.positions.HeadlessWorld}.
+ */
+public class NullDisplay extends Display {
+
+	@Override
+	public void print(Printable printable) {
+	}
+
+	@Override
+	public void printFrame(char[] frame, int width, int height) {
+	}
+
+	@Override
+	public void print(String s) {
+	}
+
+	@Override
+	public void println(String s) {
+	}
+
+	@Override
+	public void endLine() {
+	}
+
+	/**
+	 * There is nobody to type anything.
+	 *
+	 * @throws IllegalStateException always
+	 */
+	@Override
+	public char readChar() {
+		throw new IllegalStateException("A NullDisplay cannot read input");
+	}
+}
@@ -0,0 +1,158 @@
+package edu.monash.fit2099.engine.displays;
+
+import java.io.BufferedOutputStream;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Writes the game's output to the console on a background thread, so that turns don't wait for the terminal.
+ *
+ * Everything written to {@link #stream()} is queued, in order, in a bounded ring buffer. A daemon thread takes
+ * whatever is queued in one batch, writes it and flushes the console once per batch. If the buffer fills up,
+ * writers wait for the background thread to catch up, so a slow terminal can't use up the memory.
+ *
+ * Call {@link #flush()} before reading input, so that the player sees everything that has happened before being
+ * asked what to do next. The queue is also flushed when the JVM shuts down.
+ */
+final class OutputQueue {
+
+	private static final int CAPACITY = 1024;
+
+	private static final ReentrantLock lock = new ReentrantLock();
+	private static final Condition notEmpty = lock.newCondition();
+	private static final Condition notFull = lock.newCondition();
+	private static final Condition drained = lock.newCondition();
+
+	/**
+	 * Queued chunks of output, oldest at head
+	 */
+	private static final byte[][] chunks = new byte[CAPACITY][];
+	private static int head = 0;
+	private static int count = 0;
+	/**
+	 * True while the background thread is writing a batch it has taken from the queue
+	 */
+	private static boolean writing = false;
+
+	private static final OutputStream console = new BufferedOutputStream(new FileOutputStream(FileDescriptor.out), 1 << 16);
+	private static final PrintStream stream = new PrintStream(new QueueingOutputStream(), false, Charset.defaultCharset());
+
+	static {
+		Thread writer = new Thread(OutputQueue::drain, "output-writer");
+		writer.setDaemon(true);
+		writer.start();
+		Runtime.getRuntime().addShutdownHook(new Thread(OutputQueue::flush, "output-flush"));
+	}
+
+	private OutputQueue() {
+	}
+
+	/**
+	 * Returns the stream that writes to the console through the queue.
+	 *
+	 * @return the shared stream
+	 */
+	static PrintStream stream() {
+		return stream;
+	}
+
+	/**
+	 * Waits until everything written so far has reached the console.
+	 */
+	static void flush() {
+		stream.flush();
+		lock.lock();
+		try {
+			while (count > 0 || writing)
+				drained.awaitUninterruptibly();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Add a chunk of output to the queue, waiting for room if it is full.
+	 *
+	 * @param chunk the bytes to write
+	 */
+	private static void enqueue(byte[] chunk) {
+		lock.lock();
+		try {
+			while (count == CAPACITY)
+				notFull.awaitUninterruptibly();
+			chunks[(head + count) % CAPACITY] = chunk;
+			count++;
+			notEmpty.signal();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Runs on the background thread, writing out a batch at a time.
+	 */
+	private static void drain() {
+		byte[][] batch = new byte[CAPACITY][];
+		while (true) {
+			int size;
+			lock.lock();
+			try {
+				while (count == 0)
+					notEmpty.awaitUninterruptibly();
+				size = count;
+				for (int i = 0; i < size; i++) {
+					batch[i] = chunks[(head + i) % CAPACITY];
+					chunks[(head + i) % CAPACITY] = null;
+				}
+				head = (head + size) % CAPACITY;
+				count = 0;
+				writing = true;
+				notFull.signalAll();
+			} finally {
+				lock.unlock();
+			}
+
+			try {
+				for (int i = 0; i < size; i++) {
+					console.write(batch[i]);
+				}
+				console.flush();
+			} catch (IOException e) {
+				// Like System.out, there is nowhere to report a console that can't be written to
+			}
+			Arrays.fill(batch, 0, size, null);
+
+			lock.lock();
+			try {
+				writing = false;
+				if (count == 0)
+					drained.signalAll();
+			} finally {
+				lock.unlock();
+			}
+		}
+	}
+
+	/**
+	 * Turns each write by the PrintStream into a chunk in the queue.
+	 */
+	private static class QueueingOutputStream extends OutputStream {
+		@Override
+		public void write(int b) {
+			enqueue(new byte[] {(byte) b});
+		}
+
+		@Override
+		public void write(byte[] bytes, int offset, int length) {
+			if (length > 0)
+				enqueue(Arrays.copyOfRange(bytes, offset, offset + length));
+		}
+	}
+}
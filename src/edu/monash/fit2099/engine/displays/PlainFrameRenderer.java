@@ -0,0 +1,41 @@
+package edu.monash.fit2099.engine.displays;
+
+import java.io.PrintStream;
+
+/**
+ * Writes every row of every frame, one line per row, as a single write.
+ *
+ * The output is exactly what printing the frame a character at a time would produce, so this works on any terminal
+ * and in any log.
+ */
+public class PlainFrameRenderer implements FrameRenderer {
+
+	private final PrintStream out;
+
+	/**
+	 * Constructor for a renderer that writes to the console, in order with everything else the Displays write.
+	 */
+	public PlainFrameRenderer() {
+		this(OutputQueue.stream());
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param out where to write the frames
+	 */
+	public PlainFrameRenderer(PrintStream out) {
+		this.out = out;
+	}
+
+	@Override
+	public void render(char[] frame, int width, int height) {
+		String newLine = System.lineSeparator();
+		StringBuilder text = new StringBuilder(height * (width + newLine.length()));
+		for (int row = 0; row < height; row++) {
+			text.append(frame, row * width, width).append(newLine);
+		}
+		out.print(text);
+		out.flush();
+	}
+}
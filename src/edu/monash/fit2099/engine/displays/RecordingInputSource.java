@@ -0,0 +1,56 @@
+package edu.monash.fit2099.engine.displays;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Passes on the keys from another source, writing each one to a log as it is read.
+ *
+ * The log has one key per line and is written out after every key, so it survives the game crashing.
+ * Play it back with {@link ScriptedInputSource#fromFile(Path)}. Since the game's random numbers decide
+ * what happens too, the log starts with the game's seed, so that it can be replayed with the same one
+ * (see {@link ScriptedInputSource#getSeed()}).
+ */
+public class RecordingInputSource implements InputSource {
+
+	private final InputSource source;
+	private final Writer log;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param source  where the keys really come from
+	 * @param logFile the file to record them in; anything already in it is overwritten
+	 * @param seed    the seed of the game being recorded
+	 * @throws IOException when the log file can't be created
+	 */
+	public RecordingInputSource(InputSource source, Path logFile, long seed) throws IOException {
+		this.source = source;
+		this.log = Files.newBufferedWriter(logFile);
+		log.write(ScriptedInputSource.SEED_HEADER + " " + seed);
+		log.write(System.lineSeparator());
+		log.flush();
+	}
+
+	/**
+	 * Read a key from the source, and record it.
+	 *
+	 * @return the key
+	 * @throws UncheckedIOException when the key can't be written to the log
+	 */
+	@Override
+	public char readChar() {
+		char key = source.readChar();
+		try {
+			log.write(key);
+			log.write(System.lineSeparator());
+			log.flush();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return key;
+	}
+}
@@ -0,0 +1,88 @@
+package edu.monash.fit2099.engine.displays;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.NoSuchElementException;
+
+/**
+ * Plays back a script of keys, as fast as they are asked for.
+ *
+ * A script is written the same way as keys are typed at the console: words separated by whitespace
+ * (e.g. one per line), of which only the first character counts. A log made by a {@link RecordingInputSource}
+ * is a script, so this is also how a recorded session is replayed.
+ *
+ * A script may start with a line {@code #seed <seed>} giving the seed of the game it was recorded in;
+ * that line isn't played back.
+ */
+public class ScriptedInputSource implements InputSource {
+
+	/**
+	 * Starts the line giving the seed
+	 */
+	static final String SEED_HEADER = "#seed";
+
+	private final String[] keys;
+	private final Long seed;
+	private int next = 0;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param script the keys to play back
+	 */
+	public ScriptedInputSource(String script) {
+		String trimmed = script.strip();
+		if (trimmed.startsWith(SEED_HEADER + " ")) {
+			int endOfLine = trimmed.indexOf('\n');
+			String header = endOfLine < 0 ? trimmed : trimmed.substring(0, endOfLine);
+			seed = Long.parseLong(header.substring(SEED_HEADER.length()).strip());
+			trimmed = endOfLine < 0 ? "" : trimmed.substring(endOfLine + 1).strip();
+		} else {
+			seed = null;
+		}
+		keys = trimmed.isEmpty() ? new String[0] : trimmed.split("\\s+");
+	}
+
+	/**
+	 * Make a source that plays back a script from a file.
+	 *
+	 * @param scriptFile the file containing the script
+	 * @return a new source
+	 * @throws IOException when the file can't be read
+	 */
+	public static ScriptedInputSource fromFile(Path scriptFile) throws IOException {
+		return new ScriptedInputSource(Files.readString(scriptFile));
+	}
+
+	/**
+	 * Returns the next key in the script.
+	 *
+	 * @return the key
+	 * @throws NoSuchElementException if the script has run out, just as the console does when it is closed
+	 */
+	@Override
+	public char readChar() {
+		if (next == keys.length)
+			throw new NoSuchElementException("The script has run out of keys");
+		return keys[next++].charAt(0);
+	}
+
+	/**
+	 * Returns the seed the script was recorded with.
+	 *
+	 * @return the seed, or null if the script doesn't say
+	 */
+	public Long getSeed() {
+		return seed;
+	}
+
+	/**
+	 * Returns the number of keys not yet played back.
+	 *
+	 * @return the number of keys left
+	 */
+	public int remaining() {
+		return keys.length - next;
+	}
+}
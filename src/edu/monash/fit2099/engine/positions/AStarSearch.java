@@ -0,0 +1,144 @@
+package edu.monash.fit2099.engine.positions;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Finds a shortest route between two squares of a GameMap with A*.
+ *
+ * Steps go to any of the eight neighbouring squares and all cost the same, so the number of steps still
+ * to go is at least the larger of the X and Y distances (the Chebyshev distance). That estimate never
+ * overshoots and never drops by more than one per step, so the first time the search reaches a square
+ * it has found the shortest way there and never needs to look at it again.
+ *
+ * Squares that are equally promising are taken in a fixed order, so the same question always gets
+ * the same route. Only the squares the search reaches are remembered, so it works on a {@link ChunkedGameMap}
+ * too, although every square it looks at has to be brought into memory. Use a GameMap's {@link PathFinder} rather than this class, so that routes are remembered.
+ */
+final class AStarSearch {
+
+	private static final int[] STEP_X = {0, 1, 1, 1, 0, -1, -1, -1};
+	private static final int[] STEP_Y = {-1, -1, 0, 1, 1, 1, 0, -1};
+
+	/**
+	 * Squares waiting to be looked at: estimated total steps, estimated steps still to go, square
+	 */
+	private static final Comparator<int[]> MOST_PROMISING = Comparator.<int[]>comparingInt(entry -> entry[0])
+			.thenComparingInt(entry -> entry[1])
+			.thenComparingInt(entry -> entry[2]);
+
+	private AStarSearch() {
+	}
+
+	/**
+	 * Search for a route.
+	 *
+	 * The starting square doesn't have to be enterable (its Actor is already there), but every other square
+	 * on the route does. Other Actors are ignored, since they move about.
+	 *
+	 * @param from    where the route starts
+	 * @param to      where the route ends, on the same map
+	 * @param profile what the Actor taking the route can walk on
+	 * @return the squares to step onto in turn, ending with {@code to}; empty if {@code from} is {@code to},
+	 *         or null if there is no way there
+	 */
+	static List<Location> search(Location from, Location to, MovementProfile profile) {
+		if (from == to)
+			return List.of();
+
+		GameMap map = from.map();
+		NumberRange xs = map.getXRange();
+		NumberRange ys = map.getYRange();
+		int left = xs.min();
+		int top = ys.min();
+		int width = xs.size();
+		Walkability walkability = map.getWalkability(profile);
+		if (!walkability.isWalkable(to.x(), to.y()))
+			return null;
+
+		int start = (from.y() - top) * width + (from.x() - left);
+		int goal = (to.y() - top) * width + (to.x() - left);
+		// Only the squares the search reaches are kept, so a search on a huge map costs what it explores
+		Map<Integer, Square> squares = new HashMap<>();
+
+		PriorityQueue<int[]> open = new PriorityQueue<>(MOST_PROMISING);
+		squares.put(start, new Square(0, start));
+		open.add(new int[] {estimate(from.x(), from.y(), to), estimate(from.x(), from.y(), to), start});
+
+		while (!open.isEmpty()) {
+			int cell = open.poll()[2];
+			Square square = squares.get(cell);
+			if (square.done)
+				continue;
+			if (cell == goal)
+				return route(map, squares, start, goal, left, top, width);
+			square.done = true;
+
+			int x = cell % width;
+			int y = cell / width;
+			int next = square.steps + 1;
+			for (int direction = 0; direction < STEP_X.length; direction++) {
+				int nx = x + STEP_X[direction];
+				int ny = y + STEP_Y[direction];
+				if (!xs.contains(nx + left) || !ys.contains(ny + top))
+					continue;
+
+				int neighbour = ny * width + nx;
+				Square seen = squares.get(neighbour);
+				if (seen != null && (seen.done || next >= seen.steps))
+					continue;
+				if (!walkability.isWalkable(nx + left, ny + top))
+					continue;
+
+				if (seen == null)
+					squares.put(neighbour, new Square(next, cell));
+				else {
+					seen.steps = next;
+					seen.previous = cell;
+				}
+				int remaining = estimate(nx + left, ny + top, to);
+				open.add(new int[] {next + remaining, remaining, neighbour});
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * The fewest steps there could be from (x, y) to a Location.
+	 */
+	private static int estimate(int x, int y, Location to) {
+		return Math.max(Math.abs(to.x() - x), Math.abs(to.y() - y));
+	}
+
+	/**
+	 * Follow the search's trail back from the goal.
+	 */
+	private static List<Location> route(GameMap map, Map<Integer, Square> squares, int start, int goal, int left, int top,
+			int width) {
+		List<Location> route = new ArrayList<>();
+		for (int cell = goal; cell != start; cell = squares.get(cell).previous) {
+			route.add(map.at(cell % width + left, cell / width + top));
+		}
+		Collections.reverse(route);
+		return Collections.unmodifiableList(route);
+	}
+
+	/**
+	 * What the search knows about a square it has reached.
+	 */
+	private static final class Square {
+		private int steps;
+		private int previous;
+		private boolean done = false;
+
+		private Square(int steps, int previous) {
+			this.steps = steps;
+			this.previous = previous;
+		}
+	}
+}
@@ -0,0 +1,133 @@
+package edu.monash.fit2099.engine.positions;
+
+import edu.monash.fit2099.engine.GameEntity;
+import edu.monash.fit2099.engine.capabilities.CapabilityListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Finds the Actors and Items on a GameMap by capability, without looking at every square.
+ *
+ * Each GameMap makes its index the first time {@link GameMap#getCapabilityIndex()} is called, filling it
+ * with the Actors on the map and the Items lying on its Locations. From then on the map keeps it up to date
+ * as Actors and Items come and go, and each entity in the index tells it when its capabilities change
+ * (see {@link GameEntity#setCapabilityListener(CapabilityListener)}). A query therefore costs as much as
+ * the number of entities it finds, not the size of the map. Items in Actors' inventories and Ground are
+ * not indexed.
+ *
+ * Entities are listed in the order they joined the index, so that results are repeatable.
+ *
+ * This class is thread-safe.
+ */
+public class CapabilityIndex implements CapabilityListener {
+
+	/**
+	 * Every indexed entity, with the Location it's at
+	 */
+	private final Map<GameEntity, Location> entities = new LinkedHashMap<>();
+	private final Map<Enum<?>, Set<GameEntity>> byCapability = new HashMap<>();
+
+	/**
+	 * Constructor.
+	 *
+	 * Only GameMaps make indexes.
+	 */
+	CapabilityIndex() {
+	}
+
+	/**
+	 * Returns the indexed entities of a given type that have a capability.
+	 *
+	 * @param capability the capability to look for
+	 * @param type       the kind of entity to look for, e.g. Actor.class
+	 * @param <T>        the kind of entity
+	 * @return a new list of the entities found
+	 */
+	public synchronized <T extends GameEntity> List<T> find(Enum<?> capability, Class<T> type) {
+		List<T> found = new ArrayList<>();
+		for (GameEntity entity : byCapability.getOrDefault(capability, Set.of())) {
+			if (type.isInstance(entity))
+				found.add(type.cast(entity));
+		}
+		return found;
+	}
+
+	/**
+	 * Returns all the indexed entities of a given type.
+	 *
+	 * @param type the kind of entity to look for, e.g. Actor.class
+	 * @param <T>  the kind of entity
+	 * @return a new list of the entities found
+	 */
+	public synchronized <T extends GameEntity> List<T> findAll(Class<T> type) {
+		List<T> found = new ArrayList<>();
+		for (GameEntity entity : entities.keySet()) {
+			if (type.isInstance(entity))
+				found.add(type.cast(entity));
+		}
+		return found;
+	}
+
+	/**
+	 * Returns where an indexed entity is.
+	 *
+	 * @param entity the entity
+	 * @return its Location, or null if it isn't in the index
+	 */
+	public synchronized Location locationOf(GameEntity entity) {
+		return entities.get(entity);
+	}
+
+	/**
+	 * Add an entity to the index, or record that it has moved.
+	 *
+	 * @param entity   the entity
+	 * @param location where it is
+	 */
+	synchronized void add(GameEntity entity, Location location) {
+		if (entities.put(entity, location) != null)
+			return;
+
+		for (Enum<?> capability : entity.capabilitiesList()) {
+			capabilityAdded(entity, capability);
+		}
+		entity.setCapabilityListener(this);
+	}
+
+	/**
+	 * Take an entity out of the index.
+	 *
+	 * @param entity the entity
+	 */
+	synchronized void remove(GameEntity entity) {
+		if (entities.remove(entity) == null)
+			return;
+
+		for (Enum<?> capability : entity.capabilitiesList()) {
+			Set<GameEntity> holders = byCapability.get(capability);
+			if (holders != null)
+				holders.remove(entity);
+		}
+		if (entity.getCapabilityListener() == this)
+			entity.setCapabilityListener(null);
+	}
+
+	@Override
+	public synchronized void capabilityAdded(GameEntity entity, Enum<?> capability) {
+		if (entities.containsKey(entity))
+			byCapability.computeIfAbsent(capability, key -> new LinkedHashSet<>()).add(entity);
+	}
+
+	@Override
+	public synchronized void capabilityRemoved(GameEntity entity, Enum<?> capability) {
+		Set<GameEntity> holders = byCapability.get(capability);
+		if (holders != null)
+			holders.remove(entity);
+	}
+}
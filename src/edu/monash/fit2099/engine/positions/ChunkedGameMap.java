@@ -0,0 +1,522 @@
+package edu.monash.fit2099.engine.positions;
+
+import edu.monash.fit2099.engine.GameEntity;
+import edu.monash.fit2099.engine.items.Item;
+
+import java.io.IOException;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * A GameMap for maps too big to keep on the heap.
+ *
+ * The map is split into square chunks of {@link #CHUNK_SIZE} by {@link #CHUNK_SIZE} Locations.
+ * The terrain is stored in a memory-mapped file, one byte per square, as an index into a small
+ * palette of ground characters. Location objects are only created for the chunks that are in use,
+ * with Ground made by the GroundFactory from the palette, and Actors are kept in a
+ * {@link SparseOccupancyGrid}.
+ *
+ * Once more than a set number of chunks are in memory, the least recently used chunks are dropped,
+ * but only if dropping them loses nothing: no Actors, Items, custom Exits or Ground that ticks, and
+ * every Ground is still the one made from the palette, with its original capabilities. Dropped
+ * chunks are only weakly held until they are collected, so {@link #at(int, int)} keeps returning the
+ * same Location for as long as anything else still refers to it.
+ *
+ * Use {@link #add(char, NumberRange, NumberRange)} to lay out terrain: it writes straight to the file
+ * for chunks that aren't in memory. Ground set on a Location directly keeps its chunk in memory.
+ *
+ * Locations are always plain Locations; {@link #makeNewLocation(int, int)} is not used. Drawing the
+ * whole map visits every square, so very large maps should only be drawn through a {@link Viewport}.
+ */
+public class ChunkedGameMap extends GameMap {
+
+	/**
+	 * Width and height of a chunk, in squares
+	 */
+	public static final int CHUNK_SIZE = 64;
+	private static final int DEFAULT_RESIDENT_CHUNKS = 64;
+	private static final int MAX_PALETTE_SIZE = 256;
+	/**
+	 * How many of the coldest chunks to look at each time a chunk is loaded
+	 */
+	private static final int EVICTION_CANDIDATES = 4;
+
+	/**
+	 * The terrain file, mapped into memory: each square's palette entry, a chunk at a time
+	 */
+	private final MappedByteBuffer paletteBytes;
+	private final char[] palette = new char[MAX_PALETTE_SIZE];
+	/**
+	 * A Ground for each palette entry, with the capabilities squares using that entry have
+	 */
+	private final Ground[] templates = new Ground[MAX_PALETTE_SIZE];
+	private int paletteSize = 0;
+	private final int chunksAcross;
+	private final int maxResidentChunks;
+	/**
+	 * Chunks in memory, least recently used first
+	 */
+	private final LinkedHashMap<Integer, Chunk> resident = new LinkedHashMap<>(16, 0.75f, true);
+	/**
+	 * Dropped chunks that may not have been collected yet
+	 */
+	private final Map<Integer, ChunkReference> dropped = new HashMap<>();
+	private final ReferenceQueue<Chunk> collected = new ReferenceQueue<>();
+
+	/**
+	 * Constructor that keeps the terrain in a temporary file.
+	 *
+	 * @param groundFactory Factory to create Ground objects
+	 * @param groundChar    Symbol that will represent empty Ground in this map
+	 * @param width         width of the GameMap, in characters
+	 * @param height        height of the GameMap, in characters
+	 * @throws IOException when the terrain file can't be created
+	 */
+	public ChunkedGameMap(GroundFactory groundFactory, char groundChar, int width, int height) throws IOException {
+		this(groundFactory, groundChar, width, height, temporaryFile(), DEFAULT_RESIDENT_CHUNKS);
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param groundFactory     Factory to create Ground objects
+	 * @param groundChar        Symbol that will represent empty Ground in this map
+	 * @param width             width of the GameMap, in characters
+	 * @param height            height of the GameMap, in characters
+	 * @param terrainFile       file to keep the terrain in; anything already in it is overwritten
+	 * @param maxResidentChunks how many chunks to keep in memory before dropping cold ones
+	 * @throws IOException when the terrain file can't be created
+	 * @throws IllegalArgumentException if the map is too big for a single mapped file
+	 */
+	public ChunkedGameMap(GroundFactory groundFactory, char groundChar, int width, int height, Path terrainFile,
+			int maxResidentChunks) throws IOException {
+		super(groundFactory);
+		if (groundChar <= 0 || width <= 0 || height <= 0 || maxResidentChunks <= 0)
+			throw new IllegalArgumentException();
+
+		chunksAcross = (width + CHUNK_SIZE - 1) / CHUNK_SIZE;
+		long chunksDown = (height + CHUNK_SIZE - 1) / CHUNK_SIZE;
+		long size = chunksAcross * chunksDown * CHUNK_SIZE * CHUNK_SIZE;
+		if (size > Integer.MAX_VALUE)
+			throw new IllegalArgumentException("Map is too big");
+
+		this.maxResidentChunks = maxResidentChunks;
+		try (FileChannel channel = FileChannel.open(terrainFile, StandardOpenOption.CREATE, StandardOpenOption.READ,
+				StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+			// A new file reads as zeroes, which is palette entry 0
+			paletteBytes = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+		}
+		paletteIndex(groundChar);
+
+		initMap(width, height);
+	}
+
+	/**
+	 * Actors are few and far between on a big map, so only the occupied squares are stored.
+	 */
+	@Override
+	protected OccupancyGrid makeOccupancyGrid(int width, int height) {
+		return new SparseOccupancyGrid();
+	}
+
+	/**
+	 * The terrain is kept in the file, and each Location in memory holds its own Ground.
+	 */
+	@Override
+	protected TerrainLayer makeTerrainLayer(int width, int height) {
+		return null;
+	}
+
+	/**
+	 * Locations are made a chunk at a time, when they are first needed.
+	 */
+	@Override
+	protected void initLocations(int width, int height) {
+	}
+
+	/**
+	 * Returns the Location at these coordinates, bringing its chunk into memory if necessary.
+	 *
+	 * @param x X coordinate
+	 * @param y Y coordinate
+	 * @return the Location at (x, y)
+	 */
+	@Override
+	public synchronized Location at(int x, int y) {
+		if (!widths.contains(x) || !heights.contains(y))
+			throw new ArrayIndexOutOfBoundsException("(" + x + ", " + y + ") is not on the map");
+
+		return chunk(chunkIndex(x, y)).cells[cellIndex(x, y)];
+	}
+
+	/**
+	 * Set the Ground type in a rectangle.
+	 *
+	 * Squares in chunks that aren't in memory are written straight to the terrain file, unless the
+	 * Ground ticks, in which case its chunk has to be loaded so that it can tick. Either way, routes and
+	 * walkability worked out for the old terrain are out of date afterwards.
+	 *
+	 * @param groundChar the character representing the Ground to set
+	 * @param xs the range of X coordinates
+	 * @param ys the range of Y coordinates
+	 */
+	@Override
+	public synchronized void add(char groundChar, NumberRange xs, NumberRange ys) {
+		int index = paletteIndex(groundChar);
+		boolean ticks = Location.ticks(templates[index]);
+
+		for (int y = ys.min(); y <= ys.max(); y++) {
+			for (int x = xs.min(); x <= xs.max(); x++) {
+				Chunk chunk = ticks ? chunk(chunkIndex(x, y)) : findChunk(chunkIndex(x, y));
+				if (chunk != null)
+					chunk.set(cellIndex(x, y), index);
+				else
+					paletteBytes.put(offset(x, y), (byte) index);
+			}
+		}
+		terrainChanged();
+	}
+
+	/**
+	 * Add or remove a capability on the Ground of every square, without loading any chunks.
+	 *
+	 * The palette's Ground is changed, so chunks loaded later get the new capabilities, and so is the
+	 * Ground of every Location still in memory. Chunks stay just as pristine as they were.
+	 *
+	 * @param capability the capability to add or remove
+	 * @param present    true to add the capability, false to remove it
+	 */
+	@Override
+	synchronized void changeGroundCapability(Enum<?> capability, boolean present) {
+		for (int index = 0; index < paletteSize; index++) {
+			templates[index] = templates[index].withCapability(capability, present);
+		}
+
+		for (Chunk chunk : resident.values()) {
+			chunk.changeGroundCapability(capability, present);
+		}
+		for (ChunkReference reference : dropped.values()) {
+			Chunk chunk = reference.get();
+			if (chunk != null)
+				chunk.changeGroundCapability(capability, present);
+		}
+		terrainChanged();
+	}
+
+	/**
+	 * Only chunks in memory can have Items on them, since chunks with Items are never dropped.
+	 *
+	 * @param index adds an Item at a Location to the index
+	 */
+	@Override
+	synchronized void indexItems(BiConsumer<GameEntity, Location> index) {
+		for (Chunk chunk : resident.values()) {
+			for (Location location : chunk.cells) {
+				if (location == null)
+					continue;
+				for (Item item : location.getItems()) {
+					index.accept(item, location);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of chunks currently in memory (and not waiting to be collected).
+	 *
+	 * @return the number of resident chunks
+	 */
+	public synchronized int getResidentChunkCount() {
+		return resident.size();
+	}
+
+	/**
+	 * Finds a chunk, loading it if it isn't in memory, and marks it as recently used.
+	 *
+	 * @param index the chunk's index
+	 * @return the chunk
+	 */
+	private Chunk chunk(int index) {
+		Chunk chunk = resident.get(index);
+		if (chunk != null)
+			return chunk;
+
+		chunk = findChunk(index);
+		if (chunk == null)
+			chunk = new Chunk(index);
+		dropped.remove(index);
+		resident.put(index, chunk);
+		dropColdChunks(chunk);
+		return chunk;
+	}
+
+	/**
+	 * Finds a chunk that is still in memory, without loading it.
+	 *
+	 * @param index the chunk's index
+	 * @return the chunk, or null if it has to be loaded from the file
+	 */
+	private Chunk findChunk(int index) {
+		for (ChunkReference reference = (ChunkReference) collected.poll(); reference != null;
+				reference = (ChunkReference) collected.poll()) {
+			dropped.remove(reference.index, reference);
+		}
+
+		Chunk chunk = resident.get(index);
+		if (chunk == null && dropped.containsKey(index))
+			chunk = dropped.get(index).get();
+		return chunk;
+	}
+
+	/**
+	 * Drops the coldest chunks, if there are too many in memory and dropping them loses nothing.
+	 *
+	 * Chunks that can't be dropped are treated as recently used, so they aren't checked again straight away.
+	 *
+	 * @param keep the chunk that has just been loaded
+	 */
+	private void dropColdChunks(Chunk keep) {
+		for (int candidate = 0; candidate < EVICTION_CANDIDATES && resident.size() > maxResidentChunks; candidate++) {
+			Map.Entry<Integer, Chunk> coldest = resident.entrySet().iterator().next();
+			Chunk chunk = coldest.getValue();
+			if (chunk == keep)
+				return;
+
+			if (chunk.isPristine()) {
+				resident.remove(coldest.getKey());
+				dropped.put(coldest.getKey(), new ChunkReference(coldest.getKey(), chunk, collected));
+			} else {
+				resident.get(coldest.getKey());
+			}
+		}
+	}
+
+	/**
+	 * Returns the palette index for a ground character, adding it to the palette if it's new.
+	 *
+	 * @param groundChar the character representing the Ground
+	 * @return its index in the palette
+	 * @throws IllegalArgumentException if the GroundFactory doesn't know the character
+	 * @throws IllegalStateException if the palette is full
+	 */
+	private int paletteIndex(char groundChar) {
+		for (int i = 0; i < paletteSize; i++) {
+			if (palette[i] == groundChar)
+				return i;
+		}
+
+		if (paletteSize == MAX_PALETTE_SIZE)
+			throw new IllegalStateException("Too many kinds of Ground");
+		Ground template = groundFactory.newGround(groundChar);
+		if (template == null)
+			throw new IllegalArgumentException("No Ground for '" + groundChar + "'");
+
+		palette[paletteSize] = groundChar;
+		templates[paletteSize] = template;
+		return paletteSize++;
+	}
+
+	/**
+	 * Makes the Ground for a square from the palette, with the capabilities the palette entry has now.
+	 *
+	 * @param index the palette entry
+	 * @return the Ground
+	 */
+	private Ground paletteGround(int index) {
+		Ground template = templates[index];
+		if (template.isShared())
+			return template;
+
+		Ground ground = groundFactory.newGround(palette[index]);
+		List<Enum<?>> capabilities = template.capabilitiesList();
+		for (Enum<?> capability : ground.capabilitiesList()) {
+			if (!capabilities.contains(capability))
+				ground = ground.withCapability(capability, false);
+		}
+		for (Enum<?> capability : capabilities) {
+			ground = ground.withCapability(capability, true);
+		}
+		return ground;
+	}
+
+	private int chunkIndex(int x, int y) {
+		return (y / CHUNK_SIZE) * chunksAcross + x / CHUNK_SIZE;
+	}
+
+	private static int cellIndex(int x, int y) {
+		return (y % CHUNK_SIZE) * CHUNK_SIZE + x % CHUNK_SIZE;
+	}
+
+	/**
+	 * Each chunk's squares are stored together in the file, so loading a chunk reads one block.
+	 */
+	private int offset(int x, int y) {
+		return chunkIndex(x, y) * CHUNK_SIZE * CHUNK_SIZE + cellIndex(x, y);
+	}
+
+	private static Path temporaryFile() throws IOException {
+		Path file = Files.createTempFile("terrain", ".map");
+		file.toFile().deleteOnExit();
+		return file;
+	}
+
+	/**
+	 * The Locations of one chunk.
+	 */
+	private class Chunk {
+		private final Location[] cells = new Location[CHUNK_SIZE * CHUNK_SIZE];
+		/**
+		 * The palette entry each Location's Ground was made from, or -1 if it was set some other way
+		 */
+		private final int[] groundFromPalette = new int[CHUNK_SIZE * CHUNK_SIZE];
+
+		/**
+		 * Make the Locations for a chunk, with Ground from the terrain file.
+		 *
+		 * @param index the chunk's index
+		 */
+		private Chunk(int index) {
+			int left = (index % chunksAcross) * CHUNK_SIZE;
+			int top = (index / chunksAcross) * CHUNK_SIZE;
+			for (int y = top; y < top + CHUNK_SIZE && heights.contains(y); y++) {
+				for (int x = left; x < left + CHUNK_SIZE && widths.contains(x); x++) {
+					int cell = cellIndex(x, y);
+					cells[cell] = new ChunkLocation(this, x, y);
+					load(cell, paletteBytes.get(offset(x, y)) & 0xFF);
+				}
+			}
+		}
+
+		/**
+		 * Give a Location a new Ground from the palette, and record it in the terrain file.
+		 *
+		 * @param cell    the Location's index within the chunk
+		 * @param palette the palette entry
+		 */
+		private void set(int cell, int palette) {
+			Location location = cells[cell];
+			paletteBytes.put(offset(location.x(), location.y()), (byte) palette);
+			load(cell, palette);
+		}
+
+		/**
+		 * Give a Location a new Ground from the palette, which the terrain file already has for it.
+		 *
+		 * @param cell    the Location's index within the chunk
+		 * @param palette the palette entry
+		 */
+		private void load(int cell, int palette) {
+			((ChunkLocation) cells[cell]).loadGround(paletteGround(palette));
+			groundFromPalette[cell] = palette;
+		}
+
+		/**
+		 * Add or remove a capability on the Ground of every Location in the chunk, leaving where each Ground came from alone.
+		 *
+		 * @param capability the capability to add or remove
+		 * @param present    true to add the capability, false to remove it
+		 */
+		private void changeGroundCapability(Enum<?> capability, boolean present) {
+			for (Location location : cells) {
+				if (location != null)
+					((ChunkLocation) location).loadGround(location.getGround().withCapability(capability, present));
+			}
+		}
+
+		/**
+		 * Returns true if the chunk could be made again from the terrain file without losing anything.
+		 *
+		 * @return true if it is safe to drop the chunk
+		 */
+		private boolean isPristine() {
+			for (int cell = 0; cell < cells.length; cell++) {
+				Location location = cells[cell];
+				if (location == null)
+					continue;
+
+				int palette = groundFromPalette[cell];
+				if (palette < 0 || occupancy.get(location.x(), location.y()) != null || !location.getItems().isEmpty()
+						|| location.hasCustomExits() || location.needsTicking()
+						|| !location.getGround().capabilitiesList().equals(templates[palette].capabilitiesList()))
+					return false;
+			}
+			return true;
+		}
+	}
+
+	/**
+	 * A Location that keeps its chunk alive while anything refers to it, and notices when its Ground is replaced.
+	 */
+	private class ChunkLocation extends Location {
+		private final Chunk chunk;
+		private Ground ground;
+
+		private ChunkLocation(Chunk chunk, int x, int y) {
+			super(ChunkedGameMap.this, x, y);
+			this.chunk = chunk;
+		}
+
+		/**
+		 * Standard exits are worked out afresh each time rather than kept, since they refer to the neighbouring
+		 * Locations: keeping them would chain every Location ever visited together and keep all their chunks alive.
+		 *
+		 * @return an unmodifiable list of exits
+		 */
+		@Override
+		public List<Exit> getExits() {
+			if (hasCustomExits())
+				return super.getExits();
+			return exitsFrom(this);
+		}
+
+		/**
+		 * Ground set directly can't be made again from the palette, so it keeps the chunk in memory.
+		 *
+		 * @param ground Ground type to set
+		 */
+		@Override
+		public void setGround(Ground ground) {
+			this.ground = ground;
+			updateTicking(this);
+			terrainChanged();
+			chunk.groundFromPalette[cellIndex(x(), y())] = -1;
+		}
+
+		/**
+		 * Give the Location the Ground its chunk was made with. Loading a chunk doesn't change the terrain.
+		 *
+		 * @param ground the Ground from the palette
+		 */
+		private void loadGround(Ground ground) {
+			this.ground = ground;
+			updateTicking(this);
+		}
+
+		@Override
+		public Ground getGround() {
+			return ground;
+		}
+	}
+
+	/**
+	 * A weak reference to a dropped chunk that remembers where the chunk goes.
+	 */
+	private static class ChunkReference extends WeakReference<Chunk> {
+		private final int index;
+
+		private ChunkReference(int index, Chunk chunk, ReferenceQueue<Chunk> queue) {
+			super(chunk, queue);
+			this.index = index;
+		}
+	}
+}
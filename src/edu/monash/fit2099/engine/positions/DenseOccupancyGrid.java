@@ -0,0 +1,33 @@
+package edu.monash.fit2099.engine.positions;
+
+import edu.monash.fit2099.engine.actors.Actor;
+
+/**
+ * An OccupancyGrid with one slot per square, so that checking a square is a single array read.
+ */
+public class DenseOccupancyGrid implements OccupancyGrid {
+
+	private final Actor[] cells;
+	private final int width;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param width  width of the map, in characters
+	 * @param height height of the map, in characters
+	 */
+	public DenseOccupancyGrid(int width, int height) {
+		this.width = width;
+		this.cells = new Actor[width * height];
+	}
+
+	@Override
+	public Actor get(int x, int y) {
+		return cells[y * width + x];
+	}
+
+	@Override
+	public void set(int x, int y, Actor actor) {
+		cells[y * width + x] = actor;
+	}
+}
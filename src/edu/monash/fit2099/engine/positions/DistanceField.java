@@ -0,0 +1,112 @@
+package edu.monash.fit2099.engine.positions;
+
+import java.util.Arrays;
+
+/**
+ * How many steps it takes to reach a target Location from every square of its GameMap.
+ *
+ * Steps go to any of the eight neighbouring squares, but only onto Ground that Actors with a given
+ * {@link MovementProfile} can enter. Other Actors are ignored, since they move about; anyone following
+ * the field checks that the square it wants is free. An Actor heads for the target by stepping to the
+ * neighbour with the smallest distance, which takes it around walls and water rather than into them.
+ *
+ * A field is worked out with one breadth-first search over the map, so it takes time and memory in proportion
+ * to the map's area; it is meant for maps that are drawn whole, not for a {@link ChunkedGameMap}. Get fields from the map's
+ * {@link PathFinder}, which shares them between every Actor heading for the same place.
+ */
+public class DistanceField {
+
+	/**
+	 * The distance from squares that can't reach the target
+	 */
+	public static final int UNREACHABLE = Integer.MAX_VALUE;
+
+	private static final int[] STEP_X = {0, 1, 1, 1, 0, -1, -1, -1};
+	private static final int[] STEP_Y = {-1, -1, 0, 1, 1, 1, 0, -1};
+
+	private final GameMap map;
+	private final Location target;
+	private final int left;
+	private final int top;
+	private final int width;
+	private final int height;
+	/**
+	 * Steps to the target, by (y - top) * width + (x - left)
+	 */
+	private final int[] distances;
+
+	/**
+	 * Work out the field for a target.
+	 *
+	 * @param target  the Location to head for
+	 * @param profile what the Actors heading there can walk on
+	 */
+	DistanceField(Location target, MovementProfile profile) {
+		this.map = target.map();
+		this.target = target;
+		NumberRange xs = map.getXRange();
+		NumberRange ys = map.getYRange();
+		left = xs.min();
+		top = ys.min();
+		width = xs.size();
+		height = ys.size();
+		distances = new int[width * height];
+		Arrays.fill(distances, UNREACHABLE);
+		search(profile);
+	}
+
+	/**
+	 * Returns the number of steps from a Location to the target.
+	 *
+	 * @param location where to start
+	 * @return the number of steps, or {@link #UNREACHABLE} if there is no way there (or the Location is on another map)
+	 */
+	public int distanceFrom(Location location) {
+		if (location.map() != map)
+			return UNREACHABLE;
+		return distances[(location.y() - top) * width + (location.x() - left)];
+	}
+
+	/**
+	 * Returns the Location this field leads to.
+	 *
+	 * @return the target
+	 */
+	public Location getTarget() {
+		return target;
+	}
+
+	/**
+	 * Breadth-first search out from the target.
+	 */
+	private void search(MovementProfile profile) {
+		Walkability walkability = map.getWalkability(profile);
+
+		int[] queue = new int[width * height];
+		int head = 0;
+		int tail = 0;
+		int start = (target.y() - top) * width + (target.x() - left);
+		distances[start] = 0;
+		queue[tail++] = start;
+
+		while (head < tail) {
+			int cell = queue[head++];
+			int x = cell % width;
+			int y = cell / width;
+			int next = distances[cell] + 1;
+			for (int direction = 0; direction < STEP_X.length; direction++) {
+				int nx = x + STEP_X[direction];
+				int ny = y + STEP_Y[direction];
+				if (nx < 0 || nx >= width || ny < 0 || ny >= height)
+					continue;
+
+				int neighbour = ny * width + nx;
+				if (distances[neighbour] != UNREACHABLE || !walkability.isWalkable(nx + left, ny + top))
+					continue;
+
+				distances[neighbour] = next;
+				queue[tail++] = neighbour;
+			}
+		}
+	}
+}
@@ -5,9 +5,9 @@ package edu.monash.fit2099.engine.positions;
  */
 public class Exit {
 	
-	private String name;
-	private Location destination;
-	private String hotKey;
+	private final String name;
+	private final Location destination;
+	private final String hotKey;
 
 	/**
 	 *
@@ -1,16 +1,24 @@
 package edu.monash.fit2099.engine.positions;
 
-import java.lang.reflect.Constructor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
 
 /**
  * Class that can create different types of Ground based on the character that
  * represents it.
+ *
+ * Ground that is {@link Ground#isStateless() stateless} is only made once: every square
+ * of it shares the same instance.
  */
 public class FancyGroundFactory implements GroundFactory {
 
-	private Map<Character, Constructor<? extends Ground>> map = new HashMap<>();
+	private Map<Character, Supplier<? extends Ground>> map = new HashMap<>();
 
 	/**
 	 * Constructor.
@@ -22,17 +30,31 @@ public class FancyGroundFactory implements GroundFactory {
 	 * but that would make the maps look confusing in the UI anyway.
 	 *
 	 * @param groundTypes A collection of all types of ground required for a GameMap
+	 * @throws IllegalArgumentException if one of the types doesn't have a public constructor with no arguments
 	 */
 	public FancyGroundFactory(Ground... groundTypes) {
 		for (Ground ground : groundTypes) {
-			try {
-				Class<? extends Ground> cls = ground.getClass();
-				Constructor<? extends Ground> constructor;
-				constructor = cls.getConstructor();
-				map.put(ground.getDisplayChar(), constructor);
-			} catch (Exception e) {
-				e.printStackTrace();
-			}
+			register(ground.getDisplayChar(), constructorOf(ground.getClass()));
+		}
+	}
+
+	/**
+	 * Add a type of Ground, made by the given Supplier.
+	 *
+	 * Use this for Ground that doesn't have a no-argument constructor, e.g.
+	 * {@code factory.register('=', () -> new Bridge(Direction.NORTH))}.
+	 *
+	 * @param displayChar character that represents this Ground in the UI
+	 * @param supplier    makes a new instance of the Ground
+	 */
+	public void register(char displayChar, Supplier<? extends Ground> supplier) {
+		Objects.requireNonNull(supplier);
+		Ground prototype = supplier.get();
+		if (prototype.isStateless()) {
+			new GroundVariants(prototype, supplier);
+			map.put(displayChar, () -> prototype);
+		} else {
+			map.put(displayChar, supplier);
 		}
 	}
 
@@ -40,15 +62,39 @@ public class FancyGroundFactory implements GroundFactory {
 	 * Given a character, returns a new instance of the Ground type represented by it.
 	 *
 	 * @param displayChar character that represents this Ground in the UI
-	 * @return an instance of a concrete subclass of Ground
+	 * @return an instance of a concrete subclass of Ground, shared if the Ground is stateless
+	 * @throws IllegalArgumentException if no Ground is represented by the character
 	 */
 	@Override
 	public Ground newGround(char displayChar) {
+		Supplier<? extends Ground> supplier = map.get(displayChar);
+		if (supplier == null)
+			throw new IllegalArgumentException("No Ground for '" + displayChar + "'");
+		return supplier.get();
+	}
+
+	/**
+	 * Wraps a Ground class's no-argument constructor in a Supplier, without reflection on every call.
+	 *
+	 * @param type the class of Ground
+	 * @return a Supplier that calls the constructor
+	 */
+	private static Supplier<? extends Ground> constructorOf(Class<? extends Ground> type) {
+		MethodHandle constructor;
 		try {
-			return map.get(displayChar).newInstance();
-		} catch (Exception e) {
-			e.printStackTrace();
+			constructor = MethodHandles.publicLookup().findConstructor(type, MethodType.methodType(void.class));
+		} catch (NoSuchMethodException | IllegalAccessException e) {
+			throw new IllegalArgumentException(type.getName() + " needs a public constructor with no arguments", e);
 		}
-		return null;
+
+		return () -> {
+			try {
+				return (Ground) constructor.invoke();
+			} catch (RuntimeException | Error e) {
+				throw e;
+			} catch (Throwable e) {
+				throw new IllegalStateException(e);
+			}
+		};
 	}
-}
\ No newline at end of file
+}
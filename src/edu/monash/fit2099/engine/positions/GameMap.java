@@ -1,16 +1,26 @@
 package edu.monash.fit2099.engine.positions;
 
+import edu.monash.fit2099.engine.GameEntity;
 import edu.monash.fit2099.engine.actors.Actor;
 import edu.monash.fit2099.engine.actors.ActorLocationsIterator;
 import edu.monash.fit2099.engine.displays.Display;
 import edu.monash.fit2099.engine.items.Item;
+import edu.monash.fit2099.engine.random.GameRandom;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
 
 /**
  * Class representing one map within the system.
@@ -24,11 +34,53 @@ import java.util.Objects;
  */
 public class GameMap {
 
+	/**
+	 * The eight directions out of a Location, in the order their Exits are listed
+	 */
+	private static final int[] EXIT_DX = {0, 1, 1, 1, 0, -1, -1, -1};
+	private static final int[] EXIT_DY = {-1, -1, 0, 1, 1, 1, 0, -1};
+	private static final String[] EXIT_NAMES = {"North", "North-East", "East", "South-East", "South", "South-West", "West", "North-West"};
+	private static final String[] EXIT_HOTKEYS = {"8", "9", "6", "3", "2", "1", "4", "7"};
+	/**
+	 * The number of movement profiles to keep walkability for
+	 */
+	private static final int MAX_WALKABILITY_PROFILES = 32;
+
 	protected NumberRange heights;
 	protected NumberRange widths;
 	protected Location[][] map;
 	protected ActorLocationsIterator actorLocations;
 	protected GroundFactory groundFactory;
+	protected OccupancyGrid occupancy;
+	protected TerrainLayer terrain;
+	/**
+	 * The Locations that have something to do when they tick, by y * width + x
+	 */
+	private BitSet ticking;
+	/**
+	 * Made the first time it is asked for
+	 */
+	private volatile CapabilityIndex capabilityIndex;
+	/**
+	 * Made the first time it is asked for
+	 */
+	private volatile SpatialIndex spatialIndex;
+	/**
+	 * Goes up by one whenever the Ground on the map changes
+	 */
+	private final AtomicInteger terrainVersion = new AtomicInteger();
+	private final PathFinder pathFinder = new PathFinder(this);
+	/**
+	 * Walkability for the profiles asked about most recently, least recently used first
+	 */
+	private final Map<MovementProfile, Walkability> walkability = Collections.synchronizedMap(
+			new LinkedHashMap<>(16, 0.75f, true) {
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<MovementProfile, Walkability> eldest) {
+					return size() > MAX_WALKABILITY_PROFILES;
+				}
+			});
+	private final SplittableRandom random = GameRandom.split();
 
 	/**
 	 * Constructor.
@@ -46,13 +98,26 @@ public class GameMap {
 		this.groundFactory = groundFactory;
 		initMap(width, height);
 
-		for (int x : widths) {
-			for (int y : heights) {
+		for (int x = widths.min(); x <= widths.max(); x++) {
+			for (int y = heights.min(); y <= heights.max(); y++) {
 				at(x, y).setGround(groundFactory.newGround(groundChar));
 			}
 		}
 	}
 
+	/**
+	 * Constructor for subclasses that store their Locations some other way.
+	 *
+	 * Nothing is laid out yet: the subclass must call {@link #initMap(int, int)} itself,
+	 * and set the Ground however suits its storage.
+	 *
+	 * @param groundFactory Factory to create Ground objects
+	 */
+	protected GameMap(GroundFactory groundFactory) {
+		Objects.requireNonNull(groundFactory);
+		this.groundFactory = groundFactory;
+	}
+
 	/**
 	 * Constructor that creates a map from a sequence of ASCII strings.
 	 *
@@ -90,8 +155,8 @@ public class GameMap {
 		int height = lines.size();
 		initMap(width, height);
 
-		for (int x : widths) {
-			for (int y : heights) {
+		for (int x = widths.min(); x <= widths.max(); x++) {
+			for (int y = heights.min(); y <= heights.max(); y++) {
 				char groundChar = lines.get(y).charAt(x);
 				at(x, y).setGround(groundFactory.newGround(groundChar));
 			}
@@ -107,41 +172,52 @@ public class GameMap {
 	protected void initMap(int width, int height) {
 		widths = new NumberRange(0, width);
 		heights = new NumberRange(0, height);
+		occupancy = makeOccupancyGrid(width, height);
+		terrain = makeTerrainLayer(width, height);
+		ticking = new BitSet(width * height);
+		initLocations(width, height);
+
+		// Each Location works out its own Exits the first time they are needed (see exitsFrom)
+	}
+
+	/**
+	 * Create the Locations that make up the map.
+	 *
+	 * Override this (along with {@link #at(int, int)}) to store Locations some other way.
+	 *
+	 * @param width  width of the map, in characters
+	 * @param height height of the map, in characters
+	 */
+	protected void initLocations(int width, int height) {
 		map = new Location[width][height]; // Note the ordering. 0, 0 is the top left.
 											// First arg is across, second down
-		for (int x : widths) {
-			for (int y : heights) {
+		for (int x = widths.min(); x <= widths.max(); x++) {
+			for (int y = heights.min(); y <= heights.max(); y++) {
 				map[x][y] = makeNewLocation(x, y);
 			}
 		}
-
-		for (int x : widths) {
-			for (int y : heights) {
-				Location here = this.at(x, y);
-				addExitFromHere(here, x, y - 1, "North", "8");
-				addExitFromHere(here, x + 1, y - 1, "North-East", "9");
-				addExitFromHere(here, x + 1, y, "East", "6");
-				addExitFromHere(here, x + 1, y + 1, "South-East", "3");
-				addExitFromHere(here, x, y + 1, "South", "2");
-				addExitFromHere(here, x - 1, y + 1, "South-West", "1");
-				addExitFromHere(here, x - 1, y, "West", "4");
-				addExitFromHere(here, x - 1, y - 1, "North-West", "7");
-			}
-		}
 	}
 
 	/**
-	 * Builder method for making Exits.
-	 * @param here the current location
-	 * @param x X coordinate
-	 * @param y Y coordinate
-	 * @param name name of the Exit
-	 * @param hotKey the hotkey for the appropiate Action
+	 * Works out the standard Exits from a Location: one to each neighbouring square that is on the map.
+	 *
+	 * Locations call this the first time their Exits are needed and keep the result, so that big maps
+	 * don't have to hold eight Exits for every square, most of which are never used. Override this to
+	 * change the standard Exits, e.g. to wrap around the edges of the map.
+	 *
+	 * @param here the Location to leave from
+	 * @return an unmodifiable list of Exits, starting from North and going clockwise
 	 */
-	protected void addExitFromHere(Location here, int x, int y, String name, String hotKey) {
-		if (widths.contains(x) && heights.contains(y)) {
-			here.addExit(new Exit(name, this.at(x, y), hotKey));
+	protected List<Exit> exitsFrom(Location here) {
+		Exit[] exits = new Exit[EXIT_DX.length];
+		int count = 0;
+		for (int direction = 0; direction < EXIT_DX.length; direction++) {
+			int x = here.x() + EXIT_DX[direction];
+			int y = here.y() + EXIT_DY[direction];
+			if (widths.contains(x) && heights.contains(y))
+				exits[count++] = new Exit(EXIT_NAMES[direction], this.at(x, y), EXIT_HOTKEYS[direction]);
 		}
+		return Collections.unmodifiableList(Arrays.asList(Arrays.copyOf(exits, count)));
 	}
 
 	/**
@@ -157,21 +233,90 @@ public class GameMap {
 		return new Location(this, x, y);
 	}
 
+	/**
+	 * Creates the grid that keeps track of where the Actors on this map are.
+	 *
+	 * Override this method if the map is too big for a grid with a slot for every square.
+	 *
+	 * @param width  width of the map, in characters
+	 * @param height height of the map, in characters
+	 * @return a new, empty OccupancyGrid
+	 */
+	protected OccupancyGrid makeOccupancyGrid(int width, int height) {
+		return new DenseOccupancyGrid(width, height);
+	}
+
+	/**
+	 * Creates the layer that holds the Ground on every square of this map.
+	 *
+	 * Override this method (along with {@link Location#getGround()} and {@link Location#setGround(Ground)})
+	 * to keep the terrain some other way.
+	 *
+	 * @param width  width of the map, in characters
+	 * @param height height of the map, in characters
+	 * @return a new TerrainLayer with no Ground on it
+	 */
+	protected TerrainLayer makeTerrainLayer(int width, int height) {
+		return new TerrainLayer(width, height);
+	}
+
+	/**
+	 * Returns the layer that holds the Ground on every square of this map.
+	 *
+	 * Change the Ground through {@link Location#setGround(Ground)} or {@link #add(char, NumberRange, NumberRange)},
+	 * so that the map knows which Locations need ticking.
+	 *
+	 * @return this map's TerrainLayer
+	 */
+	public TerrainLayer getTerrain() {
+		return terrain;
+	}
+
+	/**
+	 * Returns the grid that keeps track of where the Actors on this map are.
+	 *
+	 * Only the World's ActorLocationsIterator should change it.
+	 *
+	 * @return this map's OccupancyGrid
+	 */
+	public OccupancyGrid getOccupancyGrid() {
+		return occupancy;
+	}
+
 	/**
 	 * Display the current GameMap.
 	 * 
-	 * Draws Actors, then locations. These need to be printed in rows because that's the way the
-	 * console works.
+	 * Draws Actors, then locations. The whole map is drawn into a frame, row by row, which the Display
+	 * then writes in one go.
 	 * 
 	 * @param display Display that will draw the state of the game
 	 */
 	public void draw(Display display) {
-		for (int y : heights) {
-			for (int x : widths) {
-				display.print(this.at(x, y));
+		draw(display, widths, heights);
+	}
+
+	/**
+	 * Display part of the current GameMap.
+	 *
+	 * Only the squares in the given ranges are looked at, so drawing a window onto a big map costs the
+	 * same as drawing a small map.
+	 *
+	 * @param display Display that will draw the state of the game
+	 * @param xs      the X coordinates to draw; must be on the map
+	 * @param ys      the Y coordinates to draw; must be on the map
+	 * @see Viewport
+	 */
+	public void draw(Display display, NumberRange xs, NumberRange ys) {
+		int width = xs.size();
+		int height = ys.size();
+		char[] frame = new char[width * height];
+		int i = 0;
+		for (int y = ys.min(); y <= ys.max(); y++) {
+			for (int x = xs.min(); x <= xs.max(); x++) {
+				frame[i++] = this.at(x, y).getDisplayChar();
 			}
-			display.endLine();
 		}
+		display.printFrame(frame, width, height);
 	}
 
 	/**
@@ -186,19 +331,84 @@ public class GameMap {
 
 	/**
 	 * Set the Ground type in a rectangle
+	 *
+	 * Shared Ground is written straight into the terrain layer; anything else gets a new Ground for every square.
 	 * 
 	 * @param groundChar the character representing the Ground to set
 	 * @param xs the range of X coordinates
 	 * @param ys the range of Y coordinates
 	 */
 	public void add(char groundChar, NumberRange xs, NumberRange ys) {
-		for (int x : xs) {
-			for (int y : ys) {
+		Ground ground = groundFactory.newGround(groundChar);
+		if (ground != null && ground.isShared()) {
+			terrain.fill(ground, xs, ys);
+			terrainChanged();
+			for (int y = ys.min(); y <= ys.max(); y++) {
+				for (int x = xs.min(); x <= xs.max(); x++) {
+					updateTicking(at(x, y));
+				}
+			}
+			return;
+		}
+
+		for (int x = xs.min(); x <= xs.max(); x++) {
+			for (int y = ys.min(); y <= ys.max(); y++) {
 				at(x, y).setGround(groundFactory.newGround(groundChar));
 			}
 		}
 	}
 	
+	/**
+	 * Add a capability to the Ground on every square of the map.
+	 *
+	 * Shared Ground is changed once per kind of Ground in the terrain layer's palette rather than
+	 * once per square.
+	 *
+	 * @param capability the capability to add
+	 * @see Location#addGroundCapability(Enum)
+	 */
+	public void addGroundCapability(Enum<?> capability) {
+		changeGroundCapability(capability, true);
+	}
+
+	/**
+	 * Remove a capability from the Ground on every square of the map.
+	 *
+	 * @param capability the capability to remove
+	 * @see #addGroundCapability(Enum)
+	 */
+	public void removeGroundCapability(Enum<?> capability) {
+		changeGroundCapability(capability, false);
+	}
+
+	/**
+	 * Add or remove a capability on the Ground of every square.
+	 *
+	 * Maps that don't keep every Location in memory override this to change their terrain without loading it.
+	 *
+	 * @param capability the capability to add or remove
+	 * @param present    true to add the capability, false to remove it
+	 */
+	void changeGroundCapability(Enum<?> capability, boolean present) {
+		if (terrain != null) {
+			terrain.remap(ground -> ground.withCapability(capability, present));
+			terrainChanged();
+			return;
+		}
+
+		for (int y = heights.min(); y <= heights.max(); y++) {
+			for (int x = widths.min(); x <= widths.max(); x++) {
+				Location location = at(x, y);
+				if (location.getGround() == null)
+					continue;
+				if (present)
+					location.addGroundCapability(capability);
+				else
+					location.removeGroundCapability(capability);
+			}
+		}
+	}
+
 	/**
 	 * Returns an enumerable NumberRange representing the valid X values of the game map. 
 	 * 
@@ -217,26 +427,211 @@ public class GameMap {
 		return heights;
 	}
 
+	/**
+	 * Returns this map's random stream.
+	 * The World binds it to {@link GameRandom#current()} while the map ticks.
+	 *
+	 * @return the map's random stream
+	 */
+	public SplittableRandom getRandom() {
+		return random;
+	}
+
 	/**
 	 * Called once per turn, so that maps can experience the passage of time.
+	 *
+	 * Items carried by Actors on this map are ticked, then every Location with a Ground or Item
+	 * that does something when it ticks (or that overrides {@link Location#tick()} itself).
 	 */
 	public void tick() {
+		// Paths found last turn may lead the wrong way now
+		pathFinder.newTurn();
+
 		// Tick over all the items in inventories.
 		for (Actor actor : actorLocations) {
-			if (this.contains(actor)) {
+			// Read the Location once: with maps ticking in parallel, the Actor may be removed at any moment
+			Location location = actorLocations.locationOf(actor);
+			if (location != null && location.map() == this) {
 				for (Item item : new ArrayList<Item>(actor.getItemInventory())) { // Copy the list in case the item wants to leave
-					item.tick(actorLocations.locationOf(actor), actor);
+					item.tick(location, actor);
 				}
 			}
 		}
 
-		for (int y : heights) {
-			for (int x : widths) {
-				this.at(x, y).tick();
+		// Only visit the Locations that have something to do, in the same order as a full sweep (row by row)
+		int width = widths.size();
+		for (int i = ticking.nextSetBit(0); i >= 0; i = ticking.nextSetBit(i + 1)) {
+			this.at(widths.min() + i % width, heights.min() + i / width).tick();
+		}
+	}
+
+	/**
+	 * Updates whether a Location on this map needs to be ticked each turn.
+	 *
+	 * Locations call this whenever their Ground or Items change. Locations whose tick would do
+	 * nothing are left out of {@link #tick()}, so that quiet parts of the map cost nothing.
+	 *
+	 * @param location the Location that has changed
+	 */
+	void updateTicking(Location location) {
+		if (ticking == null)
+			return;
+
+		int i = (location.y() - heights.min()) * widths.size() + (location.x() - widths.min());
+		ticking.set(i, location.needsTicking());
+	}
+
+	/**
+	 * Returns a number that changes whenever the Ground on this map does.
+	 *
+	 * Anything worked out from the terrain, such as a route, is still good as long as the version is
+	 * the same as when it was worked out. Ground is changed through {@link Location#setGround(Ground)},
+	 * {@link #add(char, NumberRange, NumberRange)} and the ground capability methods; changing a Ground's
+	 * capabilities directly isn't noticed.
+	 *
+	 * @return the terrain version
+	 */
+	public int getTerrainVersion() {
+		return terrainVersion.get();
+	}
+
+	/**
+	 * Record that the Ground on this map has changed.
+	 */
+	void terrainChanged() {
+		terrainVersion.incrementAndGet();
+	}
+
+	/**
+	 * Returns which squares of this map Actors with a given profile can walk on.
+	 *
+	 * The answer is worked out the first time it's asked for, and again after the terrain changes.
+	 *
+	 * @param profile what the Actors can walk on
+	 * @return the squares they can walk on, up to date with the terrain
+	 */
+	public Walkability getWalkability(MovementProfile profile) {
+		int version = getTerrainVersion();
+		Walkability current = walkability.get(profile);
+		if (current == null || current.getTerrainVersion() != version) {
+			current = new Walkability(this, profile, version);
+			walkability.put(profile, current);
+		}
+		return current;
+	}
+
+	/**
+	 * Returns the service that finds the way to places on this map.
+	 *
+	 * @return this map's PathFinder
+	 */
+	public PathFinder getPathFinder() {
+		return pathFinder;
+	}
+
+	/**
+	 * Returns the index of the Actors on this map and the Items lying on it, by capability.
+	 *
+	 * The index is made and filled the first time this is called, which means looking at every square
+	 * once; after that the map keeps it up to date. Maps that are never asked for one don't pay for it.
+	 *
+	 * @return this map's CapabilityIndex
+	 */
+	public CapabilityIndex getCapabilityIndex() {
+		CapabilityIndex index = capabilityIndex;
+		if (index != null)
+			return index;
+
+		synchronized (this) {
+			if (capabilityIndex == null) {
+				index = new CapabilityIndex();
+				if (actorLocations != null) {
+					for (Actor actor : actorLocations) {
+						if (this.contains(actor))
+							index.add(actor, actorLocations.locationOf(actor));
+					}
+				}
+				indexItems(index::add);
+				capabilityIndex = index;
 			}
+			return capabilityIndex;
 		}
 	}
 
+	/**
+	 * Returns the index of the Actors on this map and the Items lying on it, by where they are.
+	 *
+	 * Like the capability index, it is made and filled the first time this is called, and kept up to date after that.
+	 *
+	 * @return this map's SpatialIndex
+	 */
+	public SpatialIndex getSpatialIndex() {
+		SpatialIndex index = spatialIndex;
+		if (index != null)
+			return index;
+
+		synchronized (this) {
+			if (spatialIndex == null) {
+				index = new SpatialIndex(this);
+				if (actorLocations != null) {
+					for (Actor actor : actorLocations) {
+						Location location = actorLocations.locationOf(actor);
+						if (location != null && location.map() == this)
+							index.add(actor, location);
+					}
+				}
+				indexItems(index::add);
+				spatialIndex = index;
+			}
+			return spatialIndex;
+		}
+	}
+
+	/**
+	 * Put the Items lying on this map into a new index.
+	 *
+	 * @param index adds an Item at a Location to the index
+	 */
+	void indexItems(BiConsumer<GameEntity, Location> index) {
+		for (int y = heights.min(); y <= heights.max(); y++) {
+			for (int x = widths.min(); x <= widths.max(); x++) {
+				Location location = at(x, y);
+				for (Item item : location.getItems()) {
+					index.accept(item, location);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Record in the indexes, if there are any, that an entity has arrived at a Location on this map.
+	 *
+	 * @param entity   the Actor or Item
+	 * @param location where it is now
+	 */
+	void track(GameEntity entity, Location location) {
+		CapabilityIndex index = capabilityIndex;
+		if (index != null)
+			index.add(entity, location);
+		SpatialIndex spatial = spatialIndex;
+		if (spatial != null)
+			spatial.add(entity, location);
+	}
+
+	/**
+	 * Record in the indexes, if there are any, that an entity has left this map.
+	 *
+	 * @param entity the Actor or Item
+	 */
+	void untrack(GameEntity entity) {
+		CapabilityIndex index = capabilityIndex;
+		if (index != null)
+			index.remove(entity);
+		SpatialIndex spatial = spatialIndex;
+		if (spatial != null)
+			spatial.remove(entity);
+	}
+
 	/**
 	 * Returns a reference to the Actor at the given location, if there is one.
 	 *
@@ -257,6 +652,7 @@ public class GameMap {
 	public void addActor(Actor actor, Location location) {
 		Objects.requireNonNull(actor);
 		actorLocations.add(actor, location);
+		location.map().track(actor, location);
 	}
 
 	/**
@@ -266,7 +662,10 @@ public class GameMap {
 	 */
 	public void removeActor(Actor actor) {
 		Objects.requireNonNull(actor);
+		Location location = actorLocations.locationOf(actor);
 		actorLocations.remove(actor);
+		if (location != null)
+			location.map().untrack(actor);
 	}
 
 	/**
@@ -278,7 +677,11 @@ public class GameMap {
 	 */
 	public void moveActor(Actor actor, Location newLocation) {
 		Objects.requireNonNull(actor);
+		Location oldLocation = actorLocations.locationOf(actor);
 		actorLocations.move(actor, newLocation);
+		if (oldLocation != null && oldLocation.map() != newLocation.map())
+			oldLocation.map().untrack(actor);
+		newLocation.map().track(actor, newLocation);
 	}
 
 	/**
@@ -307,7 +710,8 @@ public class GameMap {
 	 * @return true if the Actor is on this GameMap
 	 */
 	public boolean contains(Actor actor) {
-		return actorLocations.contains(actor) && actorLocations.locationOf(actor).map() == this;
+		Location location = actorLocations.locationOf(actor);
+		return location != null && location.map() == this;
 	}
 
 }
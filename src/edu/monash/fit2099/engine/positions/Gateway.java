@@ -0,0 +1,33 @@
+package edu.monash.fit2099.engine.positions;
+
+import edu.monash.fit2099.engine.actors.Actor;
+
+import java.util.List;
+
+/**
+ * Ground that takes Actors somewhere else, usually to another GameMap, such as a gate or a teleporter.
+ *
+ * An Actor uses a Gateway from its own square or a neighbouring one, and arrives at (or next to) one of
+ * its destinations. Implementing this interface lets the {@link WorldGraph} plan journeys across maps.
+ *
+ * The {@link WorldGraph} only looks for Gateways again when a map's terrain changes (see
+ * {@link GameMap#getTerrainVersion()}), so change whether a Gateway can be used through
+ * {@link Location#addGroundCapability(Enum)} and friends rather than behind the map's back.
+ */
+public interface Gateway {
+
+	/**
+	 * Returns the places this Gateway leads to.
+	 *
+	 * @return the destinations; empty if it doesn't lead anywhere
+	 */
+	List<Location> getDestinations();
+
+	/**
+	 * Returns true if an Actor could go through this Gateway now.
+	 *
+	 * @param actor the Actor
+	 * @return true if the way is open to the Actor
+	 */
+	boolean canActorUse(Actor actor);
+}
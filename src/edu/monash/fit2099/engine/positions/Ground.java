@@ -11,6 +11,10 @@ import edu.monash.fit2099.engine.displays.Printable;
 public abstract class Ground extends GameEntity implements Printable {
 
     private char displayChar;
+	/**
+	 * The other shared instances of this kind of Ground, if this one is shared
+	 */
+	private GroundVariants variants;
 
 	/**
 	 * Constructor.
@@ -30,6 +34,88 @@ public abstract class Ground extends GameEntity implements Printable {
 		this.displayChar = displayChar;
 	}
 
+	/**
+	 * Is every square of this kind of Ground the same?
+	 *
+	 * Override this to return true if the Ground keeps nothing that is specific to one square (no counters,
+	 * no destinations, nothing that changes as it ticks), so that every square can share one instance. A
+	 * {@link FancyGroundFactory} will then hand out that shared instance instead of making a new one for every
+	 * square, and its capabilities can only be changed through the Location (see {@link #isShared()}).
+	 *
+	 * @return false by default
+	 */
+	public boolean isStateless() {
+		return false;
+	}
+
+	/**
+	 * Is this instance shared between Locations?
+	 *
+	 * The capabilities of a shared Ground can't be changed directly; use
+	 * {@link Location#addGroundCapability(Enum)} and {@link Location#removeGroundCapability(Enum)} instead.
+	 *
+	 * @return true if this Ground is shared
+	 */
+	public final boolean isShared() {
+		return variants != null;
+	}
+
+	/**
+	 * Add a capability to this Ground.
+	 *
+	 * @param capability the Capability to add
+	 * @throws IllegalStateException if this Ground is shared
+	 */
+	@Override
+	public void addCapability(Enum<?> capability) {
+		if (isShared())
+			throw new IllegalStateException("Shared Ground can't be changed; use Location.addGroundCapability");
+		super.addCapability(capability);
+	}
+
+	/**
+	 * Remove a capability from this Ground.
+	 *
+	 * @param capability the Capability to remove
+	 * @throws IllegalStateException if this Ground is shared
+	 */
+	@Override
+	public void removeCapability(Enum<?> capability) {
+		if (isShared())
+			throw new IllegalStateException("Shared Ground can't be changed; use Location.removeGroundCapability");
+		super.removeCapability(capability);
+	}
+
+	/**
+	 * Mark this Ground as shared.
+	 *
+	 * @param variants the shared instances of this kind of Ground
+	 */
+	void share(GroundVariants variants) {
+		this.variants = variants;
+	}
+
+	/**
+	 * Returns the Ground to use in place of this one after a capability change.
+	 *
+	 * Unshared Ground is simply changed. Shared Ground is left alone, and the shared instance
+	 * with the new set of capabilities is returned instead.
+	 *
+	 * @param capability the capability to add or remove
+	 * @param present    true to add the capability, false to remove it
+	 * @return the Ground that has the new capabilities
+	 */
+	Ground withCapability(Enum<?> capability, boolean present) {
+		if (isShared())
+			return variants.variant(this, capability, present);
+
+		if (present)
+			addCapability(capability);
+		else
+			removeCapability(capability);
+		return this;
+	}
+
 	/**
 	 * Returns an empty Action list.
 	 *
@@ -0,0 +1,70 @@
+package edu.monash.fit2099.engine.positions;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * The shared instances of one stateless kind of Ground, one for each set of capabilities in use.
+ *
+ * A stateless Ground is shared by every Location that has it, so its capabilities can't be changed
+ * in place. Instead, {@link Location#addGroundCapability(Enum)} and {@link Location#removeGroundCapability(Enum)}
+ * swap the Location over to the shared instance that has the capabilities it wants, making it the
+ * first time that combination is needed. A map where the weather is rainy everywhere therefore only
+ * holds one rainy Dirt.
+ */
+class GroundVariants {
+
+	private final Supplier<? extends Ground> maker;
+	private final Map<Set<Enum<?>>, Ground> interned = new ConcurrentHashMap<>();
+
+	/**
+	 * Constructor.
+	 *
+	 * @param prototype the first shared instance
+	 * @param maker     makes new instances of the same kind of Ground
+	 */
+	GroundVariants(Ground prototype, Supplier<? extends Ground> maker) {
+		this.maker = maker;
+		interned.put(new HashSet<>(prototype.capabilitiesList()), prototype);
+		prototype.share(this);
+	}
+
+	/**
+	 * Returns the shared instance with the same capabilities as a Ground, plus or minus one.
+	 *
+	 * @param ground     a shared instance of this kind of Ground
+	 * @param capability the capability to add or remove
+	 * @param present    true to add the capability, false to remove it
+	 * @return the shared instance with those capabilities
+	 */
+	Ground variant(Ground ground, Enum<?> capability, boolean present) {
+		Set<Enum<?>> capabilities = new HashSet<>(ground.capabilitiesList());
+		boolean changed = present ? capabilities.add(capability) : capabilities.remove(capability);
+		if (!changed)
+			return ground;
+
+		return interned.computeIfAbsent(capabilities, this::make);
+	}
+
+	/**
+	 * Makes a new shared instance with exactly the given capabilities.
+	 *
+	 * @param capabilities the capabilities it should have
+	 * @return the new instance
+	 */
+	private Ground make(Set<Enum<?>> capabilities) {
+		Ground ground = maker.get();
+		for (Enum<?> capability : ground.capabilitiesList()) {
+			if (!capabilities.contains(capability))
+				ground.removeCapability(capability);
+		}
+		for (Enum<?> capability : capabilities) {
+			ground.addCapability(capability);
+		}
+		ground.share(this);
+		return ground;
+	}
+}
@@ -0,0 +1,208 @@
+package edu.monash.fit2099.engine.positions;
+
+import edu.monash.fit2099.engine.actions.Action;
+import edu.monash.fit2099.engine.actions.ActionList;
+import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.actors.PlayerController;
+import edu.monash.fit2099.engine.displays.Display;
+import edu.monash.fit2099.engine.displays.InputSource;
+import edu.monash.fit2099.engine.displays.Menu;
+import edu.monash.fit2099.engine.displays.NullDisplay;
+
+import java.util.ArrayDeque;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * A World that runs without a human at the terminal.
+ *
+ * The player's choices are made by a {@link PlayerController} instead of at the keyboard: the
+ * player still plays its own turn, but the keys its menu reads are the ones that pick the
+ * controller's choice. The map is not drawn and everything printed is thrown away, except that
+ * every {@code reportInterval} turns the map and that turn's messages are sent to the real
+ * Display, so that a long run can still be watched.
+ *
+ * The game stops after a fixed number of turns (or earlier, if the player leaves the World),
+ * and the World keeps track of how long it took.
+ */
+public class HeadlessWorld extends World {
+
+	private final PlayerController controller;
+	private final Display output;
+	private final Display silence = new NullDisplay();
+	private final ControllerKeys keys = new ControllerKeys();
+	private final int maxTurns;
+	private final int reportInterval;
+	private int turnsCompleted = 0;
+	private long elapsedNanos = 0;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param display        the Display used on reporting turns and for the end of game message
+	 * @param controller     plays the player's turns
+	 * @param maxTurns       number of turns to run for
+	 * @param reportInterval send every n'th turn to the Display; 0 to never show a turn
+	 */
+	public HeadlessWorld(Display display, PlayerController controller, int maxTurns, int reportInterval) {
+		super(display);
+		Objects.requireNonNull(controller);
+		if (maxTurns <= 0 || reportInterval < 0)
+			throw new IllegalArgumentException();
+
+		this.controller = controller;
+		this.output = display;
+		this.maxTurns = maxTurns;
+		this.reportInterval = reportInterval;
+	}
+
+	/**
+	 * Run the game, timing how long it takes.
+	 *
+	 * While it runs, every Display reads its keys from the PlayerController's choices.
+	 */
+	@Override
+	public void run() {
+		InputSource previous = Display.getInputSource();
+		Display.setInputSource(keys);
+		long start = System.nanoTime();
+		try {
+			super.run();
+		} finally {
+			elapsedNanos = System.nanoTime() - start;
+			Display.setInputSource(previous);
+		}
+	}
+
+	/**
+	 * Run a single turn, only printing anything if this is a reporting turn.
+	 *
+	 * Other turns mute every Display, including those the game's own classes print to.
+	 */
+	@Override
+	protected void runTurn() {
+		boolean reporting = isReportingTurn();
+		display = reporting ? output : silence;
+		Display.setMuted(!reporting);
+		try {
+			super.runTurn();
+		} finally {
+			Display.setMuted(false);
+			display = output;
+		}
+		turnsCompleted++;
+	}
+
+	/**
+	 * Draw the player's map, but only on reporting turns.
+	 *
+	 * @param playersMap the GameMap containing the player
+	 */
+	@Override
+	protected void draw(GameMap playersMap) {
+		if (isReportingTurn())
+			super.draw(playersMap);
+	}
+
+	/**
+	 * The PlayerController chooses the player's Action, which the player's menu is then given the keys for,
+	 * so that the rest of the player's turn still happens. Everyone else decides for themselves.
+	 *
+	 * The player is given the real Display even on turns that aren't reported (it's muted then), since a
+	 * NullDisplay can't read keys.
+	 */
+	@Override
+	protected Action chooseAction(Actor actor, ActionList actions, Action lastAction, GameMap map) {
+		if (actor != player)
+			return super.chooseAction(actor, actions, lastAction, map);
+
+		Action choice = controller.chooseAction(actor, actions, lastAction, map);
+		String typed = new Menu(actions).keysFor(choice);
+		// Not on the menu, e.g. the rest of a multi-turn Action: the player wouldn't be asked
+		if (typed == null)
+			return choice;
+
+		// Keys after a page turn are read when the page turn is executed, so they're kept until then
+		keys.clear();
+		keys.type(typed);
+		return actor.playTurn(actions, lastAction, map, output);
+	}
+
+	/**
+	 * The game is still running while the player is around and there are turns left.
+	 *
+	 * @return true if the game should keep going
+	 */
+	@Override
+	protected boolean stillRunning() {
+		return turnsCompleted < maxTurns && super.stillRunning();
+	}
+
+	/**
+	 * Returns a string that can be displayed when the game ends.
+	 *
+	 * @return the usual message, along with the number of turns played
+	 */
+	@Override
+	protected String endGameMessage() {
+		return super.endGameMessage() + " after " + turnsCompleted + " turns";
+	}
+
+	/**
+	 * Returns the number of turns that have been played so far.
+	 *
+	 * @return the number of completed turns
+	 */
+	public int getTurnsCompleted() {
+		return turnsCompleted;
+	}
+
+	/**
+	 * Returns the wall-clock time taken by the last call to {@link #run()}.
+	 *
+	 * @return elapsed time in nanoseconds
+	 */
+	public long getElapsedNanos() {
+		return elapsedNanos;
+	}
+
+	/**
+	 * Returns the average number of turns played per second during the last call to {@link #run()}.
+	 *
+	 * @return turns per second, or 0 if the World has not been run
+	 */
+	public double getTurnsPerSecond() {
+		if (elapsedNanos == 0)
+			return 0;
+
+		return turnsCompleted / (elapsedNanos / 1_000_000_000.0);
+	}
+
+	private boolean isReportingTurn() {
+		return reportInterval > 0 && (turnsCompleted + 1) % reportInterval == 0;
+	}
+
+	/**
+	 * The keys that pick the PlayerController's choice from the player's menu.
+	 */
+	private static class ControllerKeys implements InputSource {
+
+		private final ArrayDeque<Character> pending = new ArrayDeque<>();
+
+		void type(String typed) {
+			for (char key : typed.toCharArray())
+				pending.add(key);
+		}
+
+		void clear() {
+			pending.clear();
+		}
+
+		@Override
+		public char readChar() {
+			if (pending.isEmpty())
+				throw new NoSuchElementException("The PlayerController has made no choice to read");
+			return pending.remove();
+		}
+	}
+}
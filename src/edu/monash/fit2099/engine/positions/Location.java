@@ -14,13 +14,23 @@ import java.util.*;
  */
 public class Location implements Printable {
 
+	/**
+	 * Which classes override a tick method, so that Locations that wouldn't do anything when ticked can be skipped
+	 */
+	private static final ClassValue<Boolean> LOCATION_TICKS = overridesTick(Location.class);
+	private static final ClassValue<Boolean> GROUND_TICKS = overridesTick(Ground.class, Location.class);
+	private static final ClassValue<Boolean> ITEM_TICKS = overridesTick(Item.class, Location.class);
+
 	private GameMap map;
 	private int x;
 	private int y;
 
 	private List<Item> items = new ArrayList<>();
-	private Ground ground;
-	private List<Exit> exits = new ArrayList<>();
+	/**
+	 * The Exits from here, worked out by the map the first time they're needed
+	 */
+	private List<Exit> exits;
+	private boolean customExits = false;
 
 	/**
 	 * Constructor.
@@ -82,6 +92,8 @@ public class Location implements Printable {
 	public void addItem(Item item) {
 		Objects.requireNonNull(item);
 		items.add(item);
+		map.updateTicking(this);
+		map.track(item, this);
 	}
 
 	/**
@@ -91,15 +103,20 @@ public class Location implements Printable {
 	 */
 	public void removeItem(Item item) {
 		Objects.requireNonNull(item);
-		items.remove(item);
+		if (items.remove(item) && !items.contains(item))
+			map.untrack(item);
+		map.updateTicking(this);
 	}
 
 	/**
 	 * Accessor for the ground at this location.
+	 *
+	 * The Ground is kept in the map's {@link TerrainLayer}.
+	 *
 	 * @return the ground at this location
 	 */
 	public Ground getGround() {
-		return ground;
+		return map.getTerrain().get(x, y);
 	}
 
 	/**
@@ -108,20 +125,118 @@ public class Location implements Printable {
 	 * @param ground Ground type to set
 	 */
 	public void setGround(Ground ground) {
-		this.ground = ground;
+		map.getTerrain().set(x, y, ground);
+		map.updateTicking(this);
+		map.terrainChanged();
 	}
 	
+	/**
+	 * Add a capability to the Ground at this Location, and only this Location.
+	 *
+	 * Use this rather than changing the Ground directly, since Ground may be shared between Locations
+	 * (see {@link Ground#isStateless()}), and so that the map notices that its terrain has changed.
+	 *
+	 * @param capability the capability to add
+	 */
+	public void addGroundCapability(Enum<?> capability) {
+		Ground ground = getGround();
+		boolean had = ground.hasCapability(capability);
+		Ground changed = ground.withCapability(capability, true);
+		if (changed != ground)
+			setGround(changed);
+		else if (!had)
+			map.terrainChanged();
+	}
+
+	/**
+	 * Remove a capability from the Ground at this Location, and only this Location.
+	 *
+	 * @param capability the capability to remove
+	 * @see #addGroundCapability(Enum)
+	 */
+	public void removeGroundCapability(Enum<?> capability) {
+		Ground ground = getGround();
+		boolean had = ground.hasCapability(capability);
+		Ground changed = ground.withCapability(capability, false);
+		if (changed != ground)
+			setGround(changed);
+		else if (had)
+			map.terrainChanged();
+	}
+
 	/**
 	 * Called once per turn, so that Locations can experience the passage time. If that's
 	 * important to them.
 	 */
 	public void tick() {
-		ground.tick(this);
+		getGround().tick(this);
+		if (items.isEmpty())
+			return;
+
 		for(Item item :  new ArrayList<>(items)) {
 			item.tick(this);
 		}
 	}
 
+	/**
+	 * Returns true if ticking this Location could do anything.
+	 *
+	 * That is the case if this kind of Location, its Ground or any of its Items overrides its tick method.
+	 * The GameMap uses this to skip Locations where nothing happens.
+	 *
+	 * @return true if this Location needs to be ticked every turn
+	 */
+	public boolean needsTicking() {
+		Ground ground = getGround();
+		if (LOCATION_TICKS.get(getClass()) || (ground != null && GROUND_TICKS.get(ground.getClass())))
+			return true;
+
+		for (Item item : items) {
+			if (ITEM_TICKS.get(item.getClass()))
+				return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Returns true if exits have been added to or removed from this Location.
+	 *
+	 * @return true if the exits are not just the map's standard ones
+	 */
+	boolean hasCustomExits() {
+		return customExits;
+	}
+
+	/**
+	 * Returns true if the given Ground does anything when it ticks.
+	 *
+	 * @param ground the Ground to check
+	 * @return true if the Ground's class overrides {@link Ground#tick(Location)}
+	 */
+	static boolean ticks(Ground ground) {
+		return GROUND_TICKS.get(ground.getClass());
+	}
+
+	/**
+	 * Makes a lookup for whether subclasses of a class override its public tick method.
+	 *
+	 * @param base       the class that declares the tick method
+	 * @param parameters the parameter types of the tick method
+	 * @return a ClassValue that is true for classes that override it
+	 */
+	private static ClassValue<Boolean> overridesTick(Class<?> base, Class<?>... parameters) {
+		return new ClassValue<Boolean>() {
+			@Override
+			protected Boolean computeValue(Class<?> type) {
+				try {
+					return type.getMethod("tick", parameters).getDeclaringClass() != base;
+				} catch (NoSuchMethodException e) {
+					return true;
+				}
+			}
+		};
+	}
+
 	/**
 	 * Accessor to determine whether there is an Actor at this location.
 	 *
@@ -176,7 +291,7 @@ public class Location implements Printable {
 	 * @return true if the Actor can enter this location
 	 */
 	public boolean canActorEnter(Actor actor) {
-		return !map.isAnActorAt(this) && ground.canActorEnter(actor);
+		return !map.isAnActorAt(this) && getGround().canActorEnter(actor);
 	}
 
 	/**
@@ -196,7 +311,7 @@ public class Location implements Printable {
 		else if (items.size() > 0)
 			thing = items.get(items.size() - 1);
 		else
-			thing = ground;
+			thing = getGround();
 		
 		return thing.getDisplayChar();
 	}
@@ -213,30 +328,40 @@ public class Location implements Printable {
 	/**
 	 * Returns an unmodifiable list of exits.
 	 *
+	 * Unless exits have been added or removed, these are the map's standard exits to the neighbouring squares.
+	 *
 	 * @return an unmodifiable list of exits
 	 */
 	public List<Exit> getExits() {
-		return Collections.unmodifiableList(exits);
+		if (exits == null)
+			exits = map.exitsFrom(this);
+		return exits;
 	}
 
 	/**
 	 * Add an exit to this Location.
 	 *
-	 * This method is used in GameMap to initialize the Location's exits.
+	 * This method can be used to customise the Location's exits, e.g. to add a teleporter.
 	 * @param exit the exit to add
 	 */
 	public void addExit(Exit exit) {
-		exits.add(exit);
+		List<Exit> changed = new ArrayList<>(getExits());
+		changed.add(exit);
+		exits = Collections.unmodifiableList(changed);
+		customExits = true;
 	}
 	
 	/**
 	 * Remove an exit from this Location.
 	 *
-	 * This method is used in GameMap to initialize the Location's exits.
+	 * This method can be used to customise the Location's exits, e.g. to block a passage.
 	 * @param exit the exit to remove
 	 */
 	public void removeExit(Exit exit) {
-		exits.remove(exit);
+		List<Exit> changed = new ArrayList<>(getExits());
+		changed.remove(exit);
+		exits = Collections.unmodifiableList(changed);
+		customExits = true;
 	}
 
 	@Override
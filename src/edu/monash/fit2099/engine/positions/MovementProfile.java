@@ -0,0 +1,122 @@
+package edu.monash.fit2099.engine.positions;
+
+import edu.monash.fit2099.engine.actions.Action;
+import edu.monash.fit2099.engine.actions.ActionList;
+import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.capabilities.CapabilitySet;
+import edu.monash.fit2099.engine.displays.Display;
+import edu.monash.fit2099.engine.items.Item;
+import edu.monash.fit2099.engine.random.GameRandom;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.SplittableRandom;
+
+/**
+ * What kind of terrain an Actor can walk on.
+ *
+ * Ground decides whether an Actor can enter it from the Actor's capabilities, including those of the Items it
+ * carries, so Actors of the same class with the same capabilities can go to the same places. They have equal
+ * profiles, which lets them share the work of finding paths (see {@link PathFinder}).
+ *
+ * A profile is a snapshot: it doesn't keep the Actor, and it doesn't change when the Actor's capabilities do.
+ * Ground and Gateway checks are asked about a stand-in Actor that has exactly the profile's capabilities, so
+ * they should only depend on an Actor's capabilities.
+ */
+public final class MovementProfile {
+
+	private final Class<? extends Actor> type;
+	private final List<Enum<?>> capabilities;
+	/**
+	 * Has the profile's capabilities, for Ground checks to look at; made when first needed
+	 */
+	private volatile Actor standIn;
+
+	private MovementProfile(Actor actor) {
+		CapabilitySet snapshot = new CapabilitySet();
+		for (Enum<?> capability : actor.capabilitiesList()) {
+			snapshot.addCapability(capability);
+		}
+		for (Item item : actor.getItemInventory()) {
+			for (Enum<?> capability : item.capabilitiesList()) {
+				snapshot.addCapability(capability);
+			}
+		}
+		this.type = actor.getClass();
+		this.capabilities = snapshot.capabilitiesList();
+	}
+
+	/**
+	 * Returns the profile of an Actor, as it is now.
+	 *
+	 * @param actor the Actor
+	 * @return its profile
+	 */
+	public static MovementProfile of(Actor actor) {
+		return new MovementProfile(Objects.requireNonNull(actor));
+	}
+
+	/**
+	 * Returns true if Actors with this profile can stand on the given Ground, ignoring any Actor already there.
+	 *
+	 * @param ground the Ground
+	 * @return true if the Ground lets them in
+	 */
+	public boolean canEnter(Ground ground) {
+		return ground != null && ground.canActorEnter(standIn());
+	}
+
+	/**
+	 * Returns true if Actors with this profile can go through a Gateway.
+	 *
+	 * @param gateway the Gateway
+	 * @return true if the way is open to them
+	 */
+	public boolean canUse(Gateway gateway) {
+		return gateway.canActorUse(standIn());
+	}
+
+	/**
+	 * Returns the stand-in, making it the first time. Making an Actor splits off a random stream, so it is
+	 * made with a stream of its own rather than taking one from the game's.
+	 */
+	private Actor standIn() {
+		Actor actor = standIn;
+		if (actor == null) {
+			actor = GameRandom.using(new SplittableRandom(0), () -> new StandIn(capabilities));
+			standIn = actor;
+		}
+		return actor;
+	}
+
+	@Override
+	public boolean equals(Object other) {
+		if (!(other instanceof MovementProfile))
+			return false;
+		MovementProfile profile = (MovementProfile) other;
+		return type == profile.type && capabilities.equals(profile.capabilities);
+	}
+
+	@Override
+	public int hashCode() {
+		return type.hashCode() * 31 + capabilities.hashCode();
+	}
+
+	/**
+	 * An Actor that is never put on a map, with nothing but a set of capabilities.
+	 */
+	private static final class StandIn extends Actor {
+
+		private StandIn(List<Enum<?>> capabilities) {
+			super("stand-in", ' ', 1);
+			for (Enum<?> capability : capabilities) {
+				addCapability(capability);
+			}
+		}
+
+		@Override
+		public Action playTurn(ActionList actions, Action lastAction, GameMap map, Display display) {
+			throw new UnsupportedOperationException("A stand-in doesn't play");
+		}
+	}
+}
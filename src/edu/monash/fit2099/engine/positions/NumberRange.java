@@ -1,10 +1,8 @@
 package edu.monash.fit2099.engine.positions;
 
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Iterator;
-import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
 
 /**
  * A class that represents an array of sequential numbers.
@@ -12,24 +10,44 @@ import java.util.List;
  * Counted for loops can cause off by one errors, and using this class can
  * let you use enhanced for loops instead.  Python programmers should be familiar
  * with this idiom.
+ *
+ * Only the first number and the count are stored, so a range of any size is cheap
+ * and contains() takes constant time. Code that runs every turn can avoid boxing by
+ * looping from min() to max(), or by using the primitive iterator.
  */
 public class NumberRange implements Iterable<Integer> {
 
-	private List<Integer> list;
+	private final int start;
+	private final int count;
 
 	public NumberRange(int start, int count) {
-		// Iterators can be used to remove elements. Who knew?
-		List<Integer> innerList = new ArrayList<Integer>();
-		list = Collections.unmodifiableList(innerList);
-
-		for (int i = start; i < start + count; i++) {
-			innerList.add(i);
-		}
+		this.start = start;
+		this.count = Math.max(count, 0);
 	}
 
+	/**
+	 * Returns an iterator over the range, in ascending order.
+	 * Call {@link PrimitiveIterator.OfInt#nextInt()} to get the numbers without boxing them.
+	 *
+	 * @return a primitive iterator
+	 */
 	@Override
-	public Iterator<Integer> iterator() {
-		return list.iterator();
+	public PrimitiveIterator.OfInt iterator() {
+		return new PrimitiveIterator.OfInt() {
+			private int next = start;
+
+			@Override
+			public boolean hasNext() {
+				return next < start + count;
+			}
+
+			@Override
+			public int nextInt() {
+				if (!hasNext())
+					throw new NoSuchElementException();
+				return next++;
+			}
+		};
 	}
 
 	/**
@@ -37,15 +55,24 @@ public class NumberRange implements Iterable<Integer> {
 	 * @return the smallest int in the range.
 	 */
 	public int min() {
-		return list.get(0);
+		return start;
 	}
 
 	/**
 	 * Return the largest int in the range.
+	 * For an empty range this is one less than min(), so that a loop from min() to max() does nothing.
 	 * @return the largest int in the range.
 	 */
 	public int max() {
-		return list.get(list.size() - 1);
+		return start + count - 1;
+	}
+
+	/**
+	 * Return the number of ints in the range.
+	 * @return the size of the range.
+	 */
+	public int size() {
+		return count;
 	}
 
 	/**
@@ -55,7 +82,7 @@ public class NumberRange implements Iterable<Integer> {
 	 * @return true if i lies between min and max, false otherwise.
 	 */
 	public boolean contains(int i) {
-		return list.contains(i);
+		return i >= start && i - start < count;
 	}
 
 }
@@ -0,0 +1,34 @@
+package edu.monash.fit2099.engine.positions;
+
+import edu.monash.fit2099.engine.actors.Actor;
+
+/**
+ * Records which Actor, if any, is standing on each square of a GameMap.
+ *
+ * Every GameMap has one. It is kept up to date by the World's
+ * {@link edu.monash.fit2099.engine.actors.ActorLocationsIterator}, which is the only thing that should
+ * change it; everything else should go through the GameMap or Location.
+ *
+ * Reads don't take any locks. While maps tick in parallel, each map's grid is only changed by the
+ * thread ticking that map.
+ */
+public interface OccupancyGrid {
+
+	/**
+	 * Returns the Actor at the given coordinates.
+	 *
+	 * @param x X coordinate
+	 * @param y Y coordinate
+	 * @return the Actor there, or null if the square is empty
+	 */
+	Actor get(int x, int y);
+
+	/**
+	 * Puts an Actor at the given coordinates, or clears the square.
+	 *
+	 * @param x     X coordinate
+	 * @param y     Y coordinate
+	 * @param actor the Actor now there, or null if the square is now empty
+	 */
+	void set(int x, int y, Actor actor);
+}
@@ -0,0 +1,206 @@
+package edu.monash.fit2099.engine.positions;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Finds the way to places on one GameMap, sharing the work between every Actor heading for the same place.
+ *
+ * Each turn, the first Actor to ask for a {@link DistanceField} to a target works it out, and every other
+ * Actor with the same {@link MovementProfile} heading for the same Location reuses it. So however many
+ * enemies are chasing the player, the map is searched once per turn for each kind of chaser. The fields
+ * are thrown away each time the map ticks, since by then Actors and terrain may have changed.
+ *
+ * For one Actor going from one place to another, {@link #route(Location, Location, MovementProfile)} finds
+ * a shortest route with A*. The most recently used routes are remembered until the Ground on the map
+ * changes (see {@link GameMap#getTerrainVersion()}), which is rare, so the same trip is usually only
+ * searched for once.
+ *
+ * This class is thread-safe, so Actors can plan their turns in parallel.
+ */
+public class PathFinder {
+
+	/**
+	 * The number of routes to remember
+	 */
+	private static final int MAX_ROUTES = 256;
+	/**
+	 * Stands for "no way there" in the route cache
+	 */
+	private static final List<Location> NO_ROUTE = List.of();
+
+	private final GameMap map;
+	private final Map<Key, DistanceField> fields = new ConcurrentHashMap<>();
+	/**
+	 * Remembered routes, least recently used first
+	 */
+	private final Map<RouteKey, List<Location>> routes = new LinkedHashMap<>(16, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<RouteKey, List<Location>> eldest) {
+			return size() > MAX_ROUTES;
+		}
+	};
+	/**
+	 * The terrain version the remembered routes were found with
+	 */
+	private int routesVersion;
+
+	/**
+	 * Constructor.
+	 *
+	 * Only GameMaps make PathFinders.
+	 *
+	 * @param map the map to find the way on
+	 */
+	PathFinder(GameMap map) {
+		this.map = map;
+		this.routesVersion = map.getTerrainVersion();
+	}
+
+	/**
+	 * Returns the field that leads to a target, working it out if no one has yet this turn.
+	 *
+	 * @param target  the Location to head for
+	 * @param profile what the Actor heading there can walk on
+	 * @return the distance field
+	 */
+	public DistanceField distanceField(Location target, MovementProfile profile) {
+		Objects.requireNonNull(target);
+		Objects.requireNonNull(profile);
+		return fields.computeIfAbsent(new Key(target, profile), key -> new DistanceField(target, profile));
+	}
+
+	/**
+	 * Returns a shortest route from one Location to another.
+	 *
+	 * The route only depends on the Ground, not on where other Actors are, so an Actor following it
+	 * should check that each square is free before stepping onto it. Unlike a {@link #distanceField(Location,
+	 * MovementProfile)}, a search only costs memory for the squares it reaches, so this can be used on a
+	 * {@link ChunkedGameMap}.
+	 *
+	 * @param from    where the route starts
+	 * @param to      where the route ends
+	 * @param profile what the Actor taking the route can walk on
+	 * @return the Locations to step onto in turn, ending with {@code to} (empty if {@code from} is {@code to}),
+	 *         or null if there is no way there
+	 * @throws IllegalArgumentException if either Location is not on this map
+	 */
+	public List<Location> route(Location from, Location to, MovementProfile profile) {
+		Objects.requireNonNull(profile);
+		if (from.map() != map || to.map() != map)
+			throw new IllegalArgumentException("Routes can only be found between Locations on the same map");
+
+		RouteKey key = new RouteKey(from, to, profile);
+		int version;
+		synchronized (routes) {
+			version = map.getTerrainVersion();
+			if (version != routesVersion) {
+				routes.clear();
+				routesVersion = version;
+			}
+			List<Location> route = routes.get(key);
+			if (route != null)
+				return route == NO_ROUTE ? null : route;
+		}
+
+		// Search outside the lock so that Actors planning in parallel don't wait for each other's searches
+		List<Location> route = AStarSearch.search(from, to, profile);
+		synchronized (routes) {
+			if (version == routesVersion)
+				routes.put(key, route == null ? NO_ROUTE : route);
+		}
+		return route;
+	}
+
+	/**
+	 * Returns the number of routes remembered.
+	 *
+	 * @return the number of routes in the cache
+	 */
+	public int getRouteCount() {
+		synchronized (routes) {
+			return routes.size();
+		}
+	}
+
+	/**
+	 * Returns the number of fields worked out since the map last ticked.
+	 *
+	 * @return the number of fields in use
+	 */
+	public int getFieldCount() {
+		return fields.size();
+	}
+
+	/**
+	 * Forget this turn's fields. The map calls this when it ticks.
+	 */
+	void newTurn() {
+		fields.clear();
+	}
+
+	/**
+	 * A target and the profile of the Actors heading for it.
+	 */
+	private static final class Key {
+		private final Location target;
+		private final MovementProfile profile;
+
+		private Key(Location target, MovementProfile profile) {
+			this.target = target;
+			this.profile = profile;
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			if (!(other instanceof Key))
+				return false;
+			Key key = (Key) other;
+			return target == key.target && profile.equals(key.profile);
+		}
+
+		@Override
+		public int hashCode() {
+			return System.identityHashCode(target) * 31 + profile.hashCode();
+		}
+	}
+
+	/**
+	 * The ends of a route and the profile of the Actor taking it.
+	 *
+	 * Ends are kept as coordinates, so that remembering a route doesn't depend on which Location objects
+	 * stand for the squares.
+	 */
+	private static final class RouteKey {
+		private final int fromX;
+		private final int fromY;
+		private final int toX;
+		private final int toY;
+		private final MovementProfile profile;
+
+		private RouteKey(Location from, Location to, MovementProfile profile) {
+			this.fromX = from.x();
+			this.fromY = from.y();
+			this.toX = to.x();
+			this.toY = to.y();
+			this.profile = profile;
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			if (!(other instanceof RouteKey))
+				return false;
+			RouteKey key = (RouteKey) other;
+			return fromX == key.fromX && fromY == key.fromY && toX == key.toX && toY == key.toY
+					&& profile.equals(key.profile);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(fromX, fromY, toX, toY, profile);
+		}
+	}
+}
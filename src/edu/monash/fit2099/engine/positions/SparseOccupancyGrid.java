@@ -0,0 +1,34 @@
+package edu.monash.fit2099.engine.positions;
+
+import edu.monash.fit2099.engine.actors.Actor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An OccupancyGrid that only stores the squares that have an Actor on them.
+ *
+ * Use this for maps that are far bigger than the number of Actors on them. It is a concurrent
+ * map, so that squares can still be read without taking a lock.
+ */
+public class SparseOccupancyGrid implements OccupancyGrid {
+
+	private final Map<Long, Actor> occupied = new ConcurrentHashMap<>();
+
+	@Override
+	public Actor get(int x, int y) {
+		return occupied.get(key(x, y));
+	}
+
+	@Override
+	public void set(int x, int y, Actor actor) {
+		if (actor == null)
+			occupied.remove(key(x, y));
+		else
+			occupied.put(key(x, y), actor);
+	}
+
+	private static long key(int x, int y) {
+		return ((long) y << 32) | (x & 0xFFFFFFFFL);
+	}
+}
@@ -0,0 +1,214 @@
+package edu.monash.fit2099.engine.positions;
+
+import edu.monash.fit2099.engine.GameEntity;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Finds the Actors and Items on a GameMap near a Location, without looking at every square.
+ *
+ * The map is divided into square buckets of {@link #BUCKET_SIZE} squares a side, and each bucket lists
+ * the entities in it. A query only looks at the buckets that overlap the area asked about, so it costs
+ * about as much as the number of entities found rather than the size of the map.
+ *
+ * Like the {@link CapabilityIndex}, each GameMap makes its index the first time
+ * {@link GameMap#getSpatialIndex()} is called and keeps it up to date as Actors and Items come, go and move.
+ * Items in Actors' inventories are not indexed.
+ *
+ * Distances are counted in steps, where a diagonal step is one step, so the squares within distance 1 of a
+ * Location are the ones its Exits lead to. Results are listed nearest first. At the same distance they go
+ * clockwise from north, the same order as a Location's Exits, so replacing a loop over Exits with a query
+ * gives the same answers in the same order.
+ *
+ * This class is thread-safe.
+ */
+public class SpatialIndex {
+
+	/**
+	 * The width and height of a bucket, in squares
+	 */
+	public static final int BUCKET_SIZE = 8;
+
+	private final GameMap map;
+	/**
+	 * Every indexed entity, with the Location it's at
+	 */
+	private final Map<GameEntity, Location> entities = new HashMap<>();
+	/**
+	 * The entities in each bucket that has any, by bucket coordinates
+	 */
+	private final Map<Long, Set<GameEntity>> buckets = new HashMap<>();
+
+	/**
+	 * Constructor.
+	 *
+	 * Only GameMaps make indexes.
+	 *
+	 * @param map the map to index
+	 */
+	SpatialIndex(GameMap map) {
+		this.map = map;
+	}
+
+	/**
+	 * Returns the indexed entities of a given type within a distance of a Location.
+	 *
+	 * @param centre the Location to search around
+	 * @param radius how many steps away to look; 0 only looks at the centre
+	 * @param type   the kind of entity to look for, e.g. Actor.class
+	 * @param <T>    the kind of entity
+	 * @return a new list of the entities found, nearest first; empty if the centre is on another map
+	 */
+	public <T extends GameEntity> List<T> within(Location centre, int radius, Class<T> type) {
+		return within(centre, radius, null, type);
+	}
+
+	/**
+	 * Returns the indexed entities of a given type that have a capability, within a distance of a Location.
+	 *
+	 * @param centre     the Location to search around
+	 * @param radius     how many steps away to look; 0 only looks at the centre
+	 * @param capability the capability to look for, or null for any
+	 * @param type       the kind of entity to look for, e.g. Actor.class
+	 * @param <T>        the kind of entity
+	 * @return a new list of the entities found, nearest first; empty if the centre is on another map
+	 */
+	public synchronized <T extends GameEntity> List<T> within(Location centre, int radius, Enum<?> capability, Class<T> type) {
+		List<T> found = new ArrayList<>();
+		if (centre.map() != map || radius < 0)
+			return found;
+
+		for (long bucketY = bucketOf(centre.y() - radius); bucketY <= bucketOf(centre.y() + radius); bucketY++) {
+			for (long bucketX = bucketOf(centre.x() - radius); bucketX <= bucketOf(centre.x() + radius); bucketX++) {
+				Set<GameEntity> bucket = buckets.get(key(bucketX, bucketY));
+				if (bucket == null)
+					continue;
+				for (GameEntity entity : bucket) {
+					if (type.isInstance(entity) && distance(centre, entities.get(entity)) <= radius
+							&& (capability == null || entity.hasCapability(capability)))
+						found.add(type.cast(entity));
+				}
+			}
+		}
+		// Stable, so entities on the same square stay in the order they arrived
+		found.sort(Comparator.comparingInt((T entity) -> distance(centre, entities.get(entity)))
+				.thenComparingDouble(entity -> bearing(centre, entities.get(entity))));
+		return found;
+	}
+
+	/**
+	 * Returns the nearest indexed entities of a given type to a Location.
+	 *
+	 * @param centre the Location to search around
+	 * @param count  the most entities to return
+	 * @param type   the kind of entity to look for, e.g. Actor.class
+	 * @param <T>    the kind of entity
+	 * @return a new list of up to {@code count} entities, nearest first
+	 */
+	public <T extends GameEntity> List<T> nearest(Location centre, int count, Class<T> type) {
+		return nearest(centre, count, null, type);
+	}
+
+	/**
+	 * Returns the nearest indexed entities of a given type that have a capability.
+	 *
+	 * The search starts with the buckets around the centre and widens until it has found enough
+	 * entities or has covered the whole map.
+	 *
+	 * @param centre     the Location to search around
+	 * @param count      the most entities to return
+	 * @param capability the capability to look for, or null for any
+	 * @param type       the kind of entity to look for, e.g. Actor.class
+	 * @param <T>        the kind of entity
+	 * @return a new list of up to {@code count} entities, nearest first
+	 */
+	public synchronized <T extends GameEntity> List<T> nearest(Location centre, int count, Enum<?> capability, Class<T> type) {
+		if (centre.map() != map || count <= 0)
+			return new ArrayList<>();
+
+		int furthest = Math.max(map.getXRange().size(), map.getYRange().size());
+		for (int radius = BUCKET_SIZE; ; radius *= 2) {
+			// Everything within the radius has been found, so if that's enough, it includes the nearest
+			List<T> found = within(centre, radius, capability, type);
+			if (found.size() >= count || radius >= furthest)
+				return new ArrayList<>(found.subList(0, Math.min(count, found.size())));
+		}
+	}
+
+	/**
+	 * Returns where an indexed entity is.
+	 *
+	 * @param entity the entity
+	 * @return its Location, or null if it isn't in the index
+	 */
+	public synchronized Location locationOf(GameEntity entity) {
+		return entities.get(entity);
+	}
+
+	/**
+	 * Add an entity to the index, or record that it has moved.
+	 *
+	 * @param entity   the entity
+	 * @param location where it is
+	 */
+	synchronized void add(GameEntity entity, Location location) {
+		Location previous = entities.put(entity, location);
+		if (previous != null) {
+			long from = key(bucketOf(previous.x()), bucketOf(previous.y()));
+			long to = key(bucketOf(location.x()), bucketOf(location.y()));
+			if (from == to)
+				return;
+			removeFromBucket(entity, from);
+		}
+		buckets.computeIfAbsent(key(bucketOf(location.x()), bucketOf(location.y())), key -> new LinkedHashSet<>()).add(entity);
+	}
+
+	/**
+	 * Take an entity out of the index.
+	 *
+	 * @param entity the entity
+	 */
+	synchronized void remove(GameEntity entity) {
+		Location location = entities.remove(entity);
+		if (location != null)
+			removeFromBucket(entity, key(bucketOf(location.x()), bucketOf(location.y())));
+	}
+
+	private void removeFromBucket(GameEntity entity, long key) {
+		Set<GameEntity> bucket = buckets.get(key);
+		if (bucket == null)
+			return;
+		bucket.remove(entity);
+		if (bucket.isEmpty())
+			buckets.remove(key);
+	}
+
+	private static long bucketOf(int coordinate) {
+		return Math.floorDiv(coordinate, BUCKET_SIZE);
+	}
+
+	private static long key(long bucketX, long bucketY) {
+		return (bucketY << 32) ^ (bucketX & 0xFFFFFFFFL);
+	}
+
+	/**
+	 * The number of steps between two Locations, counting a diagonal step as one.
+	 */
+	private static int distance(Location a, Location b) {
+		return Math.max(Math.abs(a.x() - b.x()), Math.abs(a.y() - b.y()));
+	}
+
+	/**
+	 * The direction from one Location to another, clockwise from north, in radians from 0 up to 2 pi.
+	 */
+	private static double bearing(Location from, Location to) {
+		double bearing = StrictMath.atan2(to.x() - from.x(), from.y() - to.y());
+		return bearing < 0 ? bearing + 2 * Math.PI : bearing;
+	}
+}
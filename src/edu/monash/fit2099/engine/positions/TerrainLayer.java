@@ -0,0 +1,208 @@
+package edu.monash.fit2099.engine.positions;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+/**
+ * The Ground on every square of a GameMap.
+ *
+ * Most squares of a map are one of a handful of kinds of Ground, and the stateless ones are shared
+ * (see {@link Ground#isStateless()}). Each square therefore stores a single byte: an index into a
+ * palette of the shared Grounds used on this map. Ground that isn't shared (a gate that remembers where
+ * it leads, a graveyard that spawns) can't go in the palette, so it is kept in a sparse map of overrides
+ * instead.
+ *
+ * Squares are stored row by row, so scanning the terrain of a map (to draw it, or to find where Actors
+ * can walk) reads one small array from start to end.
+ */
+public class TerrainLayer {
+
+	/**
+	 * Marks a square whose Ground is in the overrides rather than the palette
+	 */
+	private static final int OVERRIDDEN = 0xFF;
+	private static final int MAX_PALETTE_SIZE = OVERRIDDEN;
+
+	private final int width;
+	private final int height;
+	/**
+	 * Palette index of each square, by y * width + x
+	 */
+	private final byte[] cells;
+	private final Ground[] palette = new Ground[MAX_PALETTE_SIZE];
+	private final Map<Ground, Integer> paletteIndex = new IdentityHashMap<>();
+	private int paletteSize = 0;
+	/**
+	 * Ground that isn't in the palette, by y * width + x
+	 */
+	private final Map<Integer, Ground> overrides = new HashMap<>();
+
+	/**
+	 * Constructor.
+	 *
+	 * Every square starts with no Ground.
+	 *
+	 * @param width  width of the map, in characters
+	 * @param height height of the map, in characters
+	 */
+	public TerrainLayer(int width, int height) {
+		if (width <= 0 || height <= 0)
+			throw new IllegalArgumentException();
+
+		this.width = width;
+		this.height = height;
+		cells = new byte[width * height];
+		Arrays.fill(cells, (byte) OVERRIDDEN);
+	}
+
+	/**
+	 * Returns the Ground at these coordinates.
+	 *
+	 * @param x X coordinate
+	 * @param y Y coordinate
+	 * @return the Ground at (x, y), or null if none has been set
+	 */
+	public Ground get(int x, int y) {
+		int cell = cell(x, y);
+		int index = cells[cell] & 0xFF;
+		if (index == OVERRIDDEN)
+			return overrides.get(cell);
+		return palette[index];
+	}
+
+	/**
+	 * Set the Ground at these coordinates.
+	 *
+	 * Shared Ground goes in the palette, while there is room for it; anything else is an override.
+	 *
+	 * @param x      X coordinate
+	 * @param y      Y coordinate
+	 * @param ground the Ground to set
+	 */
+	public void set(int x, int y, Ground ground) {
+		set(x, y, indexOf(ground), ground);
+	}
+
+	/**
+	 * Set the same Ground in a rectangle.
+	 *
+	 * @param ground the Ground to set
+	 * @param xs     the range of X coordinates
+	 * @param ys     the range of Y coordinates
+	 */
+	public void fill(Ground ground, NumberRange xs, NumberRange ys) {
+		int index = indexOf(ground);
+		for (int y = ys.min(); y <= ys.max(); y++) {
+			for (int x = xs.min(); x <= xs.max(); x++) {
+				set(x, y, index, ground);
+			}
+		}
+	}
+
+	/**
+	 * Replace every Ground in the layer with another, e.g. the same Ground with an extra capability.
+	 *
+	 * Each palette entry is changed once, however many squares use it, so this costs as much as the
+	 * palette and the overrides rather than the whole map. The replacement for a palette entry must be shared.
+	 *
+	 * @param replacement works out the Ground to use in place of each Ground
+	 */
+	void remap(UnaryOperator<Ground> replacement) {
+		for (int index = 0; index < paletteSize; index++) {
+			palette[index] = replacement.apply(palette[index]);
+		}
+		// Two entries may now hold the same Ground; either index will do for new squares
+		paletteIndex.clear();
+		for (int index = paletteSize - 1; index >= 0; index--) {
+			paletteIndex.put(palette[index], index);
+		}
+
+		overrides.replaceAll((cell, ground) -> replacement.apply(ground));
+	}
+
+	/**
+	 * Returns the palette index of the Ground at these coordinates.
+	 *
+	 * Squares with the same index have the very same Ground, so a scan can work something out once
+	 * per palette entry rather than once per square.
+	 *
+	 * @param x X coordinate
+	 * @param y Y coordinate
+	 * @return the index into the palette, or -1 if the Ground there isn't in the palette
+	 */
+	public int paletteIndexAt(int x, int y) {
+		int index = cells[cell(x, y)] & 0xFF;
+		return index == OVERRIDDEN ? -1 : index;
+	}
+
+	/**
+	 * Returns a Ground in the palette.
+	 *
+	 * @param index the palette index
+	 * @return the Ground with that index
+	 * @throws IndexOutOfBoundsException if there is no such entry
+	 */
+	public Ground paletteEntry(int index) {
+		if (index < 0 || index >= paletteSize)
+			throw new IndexOutOfBoundsException(index);
+		return palette[index];
+	}
+
+	/**
+	 * Returns the number of Grounds in the palette.
+	 *
+	 * @return the palette size
+	 */
+	public int getPaletteSize() {
+		return paletteSize;
+	}
+
+	/**
+	 * Returns the number of squares whose Ground isn't in the palette.
+	 *
+	 * @return the number of overrides
+	 */
+	public int getOverrideCount() {
+		return overrides.size();
+	}
+
+	/**
+	 * Returns the palette index to store for a Ground, adding it to the palette if it's shared and new.
+	 *
+	 * @param ground the Ground
+	 * @return its palette index, or OVERRIDDEN
+	 */
+	private int indexOf(Ground ground) {
+		if (ground == null || !ground.isShared())
+			return OVERRIDDEN;
+
+		Integer index = paletteIndex.get(ground);
+		if (index != null)
+			return index;
+		if (paletteSize == MAX_PALETTE_SIZE)
+			return OVERRIDDEN;
+
+		palette[paletteSize] = ground;
+		paletteIndex.put(ground, paletteSize);
+		return paletteSize++;
+	}
+
+	private void set(int x, int y, int index, Ground ground) {
+		int cell = cell(x, y);
+		boolean wasOverridden = (cells[cell] & 0xFF) == OVERRIDDEN;
+		cells[cell] = (byte) index;
+		if (index == OVERRIDDEN && ground != null)
+			overrides.put(cell, ground);
+		else if (wasOverridden)
+			overrides.remove(cell);
+	}
+
+	private int cell(int x, int y) {
+		if (x < 0 || x >= width || y < 0 || y >= height)
+			throw new ArrayIndexOutOfBoundsException("(" + x + ", " + y + ") is not on the map");
+		return y * width + x;
+	}
+}
@@ -0,0 +1,82 @@
+package edu.monash.fit2099.engine.positions;
+
+import edu.monash.fit2099.engine.displays.Display;
+
+/**
+ * A window onto part of a GameMap, which follows a Location around (normally the player's).
+ *
+ * The window is centred on the Location it follows, except near the edges of the map: there it stops
+ * scrolling, so that the window stays full of map and the Location moves off centre instead. A map
+ * smaller than the window is drawn whole.
+ *
+ * Only the squares in the window are looked at, so drawing costs the same however big the map is.
+ *
+ * @see World#setViewport(Viewport)
+ */
+public class Viewport {
+
+	private final int width;
+	private final int height;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param width  the width of the window, in characters
+	 * @param height the height of the window, in characters
+	 */
+	public Viewport(int width, int height) {
+		if (width <= 0 || height <= 0)
+			throw new IllegalArgumentException();
+
+		this.width = width;
+		this.height = height;
+	}
+
+	/**
+	 * Draw the part of a map around a Location.
+	 *
+	 * @param display the Display to draw on
+	 * @param centre  the Location to follow
+	 */
+	public void draw(Display display, Location centre) {
+		centre.map().draw(display, getXRange(centre), getYRange(centre));
+	}
+
+	/**
+	 * Returns the X coordinates in the window around a Location.
+	 *
+	 * @param centre the Location to follow
+	 * @return the X coordinates to draw
+	 */
+	public NumberRange getXRange(Location centre) {
+		return window(centre.map().getXRange(), centre.x(), width);
+	}
+
+	/**
+	 * Returns the Y coordinates in the window around a Location.
+	 *
+	 * @param centre the Location to follow
+	 * @return the Y coordinates to draw
+	 */
+	public NumberRange getYRange(Location centre) {
+		return window(centre.map().getYRange(), centre.y(), height);
+	}
+
+	/**
+	 * Works out one side of the window.
+	 *
+	 * @param range  the coordinates on the map
+	 * @param centre the coordinate to centre on
+	 * @param size   the size of the window
+	 * @return the coordinates in the window
+	 */
+	private static NumberRange window(NumberRange range, int centre, int size) {
+		if (size >= range.size())
+			return range;
+
+		int start = centre - size / 2;
+		start = Math.max(start, range.min());
+		start = Math.min(start, range.max() - size + 1);
+		return new NumberRange(start, size);
+	}
+}
@@ -0,0 +1,115 @@
+package edu.monash.fit2099.engine.positions;
+
+import java.util.BitSet;
+
+/**
+ * Which squares of a GameMap Actors with a {@link MovementProfile} can walk on, as one bit per square.
+ *
+ * Whether Ground lets an Actor in depends only on the Ground and the Actor's class and capabilities, so it
+ * is worked out once for each profile and kept until the terrain changes (see {@link GameMap#getTerrainVersion()}).
+ * Building the bits only asks each kind of shared Ground in the map's {@link TerrainLayer} palette once.
+ * Where other Actors are is checked each time it is asked about, since that changes every turn.
+ *
+ * Get these from {@link GameMap#getWalkability(MovementProfile)}. A map without a terrain layer, such as a
+ * {@link ChunkedGameMap}, doesn't keep the bits, since that would mean visiting every square; asking
+ * about a square there asks its Ground directly.
+ *
+ * Once built, a Walkability doesn't change, so it can be shared between threads.
+ */
+public class Walkability {
+
+	private final GameMap map;
+	private final MovementProfile profile;
+	private final int version;
+	private final int left;
+	private final int top;
+	private final int width;
+	private final int height;
+	/**
+	 * One bit per square that can be walked on, by (y - top) * width + (x - left), or null to ask the Ground each time
+	 */
+	private final BitSet walkable;
+
+	/**
+	 * Work out which squares can be walked on.
+	 *
+	 * @param map     the map
+	 * @param profile what the Actors can walk on
+	 * @param version the map's terrain version before looking at it
+	 */
+	Walkability(GameMap map, MovementProfile profile, int version) {
+		this.map = map;
+		this.profile = profile;
+		this.version = version;
+		NumberRange xs = map.getXRange();
+		NumberRange ys = map.getYRange();
+		left = xs.min();
+		top = ys.min();
+		width = xs.size();
+		height = ys.size();
+
+		TerrainLayer terrain = map.getTerrain();
+		walkable = terrain != null ? build(terrain) : null;
+	}
+
+	/**
+	 * Returns true if the Ground at these coordinates lets the Actors in, whoever is standing there.
+	 *
+	 * @param x X coordinate
+	 * @param y Y coordinate
+	 * @return true if the square can be walked on; false if it can't or is off the map
+	 */
+	public boolean isWalkable(int x, int y) {
+		if (x < left || x >= left + width || y < top || y >= top + height)
+			return false;
+		if (walkable == null)
+			return profile.canEnter(map.at(x, y).getGround());
+		return walkable.get((y - top) * width + (x - left));
+	}
+
+	/**
+	 * Returns true if the Actors could step onto a Location now: its Ground lets them in and no one is there.
+	 *
+	 * This gives the same answer as {@link Location#canActorEnter(edu.monash.fit2099.engine.actors.Actor)}
+	 * for any Actor with the profile.
+	 *
+	 * @param location the Location
+	 * @return true if it can be entered
+	 */
+	public boolean canEnter(Location location) {
+		if (location.map() != map)
+			return !location.containsAnActor() && profile.canEnter(location.getGround());
+		return isWalkable(location.x(), location.y()) && !map.isAnActorAt(location);
+	}
+
+	/**
+	 * Returns the terrain version these bits were worked out for.
+	 *
+	 * @return the map's terrain version when this was built
+	 */
+	public int getTerrainVersion() {
+		return version;
+	}
+
+	private BitSet build(TerrainLayer terrain) {
+		BitSet bits = new BitSet(width * height);
+		// What each palette entry's Ground said: 0 = not asked yet, 1 = can enter, 2 = can't
+		byte[] paletteEnterable = new byte[terrain.getPaletteSize()];
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				boolean enterable;
+				int index = terrain.paletteIndexAt(x + left, y + top);
+				if (index < 0) {
+					enterable = profile.canEnter(terrain.get(x + left, y + top));
+				} else {
+					if (paletteEnterable[index] == 0)
+						paletteEnterable[index] = (byte) (profile.canEnter(terrain.paletteEntry(index)) ? 1 : 2);
+					enterable = paletteEnterable[index] == 1;
+				}
+				if (enterable)
+					bits.set(y * width + x);
+			}
+		}
+		return bits;
+	}
+}
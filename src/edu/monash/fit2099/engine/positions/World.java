@@ -7,11 +7,16 @@ import edu.monash.fit2099.engine.actions.ActionList;
 import edu.monash.fit2099.engine.actors.ActorLocationsIterator;
 import edu.monash.fit2099.engine.displays.Display;
 import edu.monash.fit2099.engine.items.Item;
+import edu.monash.fit2099.engine.random.GameRandom;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.Collectors;
 
 /**
  * Za Warudo! - DIO
@@ -25,6 +30,14 @@ public class World {
 	protected ActorLocationsIterator actorLocations = new ActorLocationsIterator();
 	protected Actor player; // We only draw the particular map this actor is on.
 	protected Map<Actor, Action> lastActionMap = new HashMap<Actor, Action>();
+	private boolean parallelMapTicking = false;
+	private boolean parallelPlanning = false;
+	private Viewport viewport;
+	/**
+	 * Writes out what maps printed while they ticked in parallel, where it would have gone had they ticked in turn
+	 */
+	private final Display console = new Display();
+	private WorldGraph worldGraph;
 
 	/**
 	 * Constructor.
@@ -46,6 +59,61 @@ public class World {
 		gameMap.actorLocations = actorLocations;
 	}
 
+	/**
+	 * Choose whether the GameMaps tick one after another (the default) or in parallel.
+	 *
+	 * In parallel mode the maps before the player's in the World's list are ticked at the same time on
+	 * the common fork-join pool, then the player's map is ticked on the game thread, because the player's
+	 * fate can reach every map (e.g. a reset on death), then the maps after it are ticked in parallel.
+	 * Each map ticks with its own random stream, Actors spawned during the ticks join the turn order map
+	 * by map, and what each map prints is held back and written out in map order, so a seeded game plays
+	 * out and prints exactly as it does when the maps tick one after another.
+	 *
+	 * Map ticks must only touch their own map while running in parallel. Anything they share with
+	 * other maps has to be thread-safe, or only be changed during the Actors' turns.
+	 *
+	 * @param parallelMapTicking true to tick maps in parallel
+	 */
+	public void setParallelMapTicking(boolean parallelMapTicking) {
+		this.parallelMapTicking = parallelMapTicking;
+	}
+
+	/**
+	 * Choose whether Actors decide what to do one at a time (the default) or all at once.
+	 *
+	 * With parallel planning the player takes its turn first, on its own. Then every other Actor that
+	 * {@link Actor#canPlanInParallel() can plan in parallel} chooses its Action at the same time, against the
+	 * world as the player left it. Finally the chosen Actions are executed one at a time in the usual turn
+	 * order. An Actor whose plan no longer works by then, because it has been moved or its Action is no
+	 * longer {@link Action#isStillValid(Actor, GameMap) valid} (e.g. two wolves chose the same square),
+	 * chooses again on its turn, so the first Actor in the turn order wins any conflict.
+	 *
+	 * @param parallelPlanning true to plan Actors' turns in parallel
+	 */
+	public void setParallelPlanning(boolean parallelPlanning) {
+		this.parallelPlanning = parallelPlanning;
+	}
+
+	/**
+	 * Only draw a window onto the player's map, following the player, rather than the whole map.
+	 *
+	 * @param viewport the window to draw, or null to draw whole maps (the default)
+	 */
+	public void setViewport(Viewport viewport) {
+		this.viewport = viewport;
+	}
+
+	/**
+	 * Returns the planner for journeys between this World's maps.
+	 *
+	 * @return the WorldGraph, made the first time it is asked for
+	 */
+	public synchronized WorldGraph getWorldGraph() {
+		if (worldGraph == null)
+			worldGraph = new WorldGraph(gameMaps);
+		return worldGraph;
+	}
+
 	/**
 	 * Set an actor as the player. The map is drawn just before this Actor's turn
 	 * 
@@ -54,7 +122,9 @@ public class World {
 	 */
 	public void addPlayer(Actor player, Location location) {
 		this.player = player;
-		actorLocations.add(player, location.map().at(location.x(), location.y()));
+		Location start = location.map().at(location.x(), location.y());
+		actorLocations.add(player, start);
+		start.map().track(player, start);
 		actorLocations.setPlayer(player);
 	}
 
@@ -81,21 +151,162 @@ public class World {
 
 		// This loop is basically the whole game
 		while (stillRunning()) {
-			GameMap playersMap = actorLocations.locationOf(player).map();
-			playersMap.draw(display);
+			runTurn();
+		}
+		display.println(endGameMessage());
+		display.flush();
+	}
+
+	/**
+	 * Runs a single turn of the game.
+	 *
+	 * Draws the player's map, ticks over all the maps and then gives every Actor
+	 * its turn, player first. Each map and Actor draws its random numbers from its
+	 * own stream (see {@link GameRandom}).
+	 */
+	protected void runTurn() {
+		GameMap playersMap = actorLocations.locationOf(player).map();
+		draw(playersMap);
+
+		// Tick over all the maps. For the map stuff.
+		tickMaps(playersMap);
+
+		// Process all the actors.
+		if (parallelPlanning) {
+			processPlannedTurns();
+			return;
+		}
+
+		for (Actor actor : actorLocations) {
+			if (stillRunning())
+				GameRandom.using(actor.getRandom(), () -> processActorTurn(actor));
+		}
+	}
+
+	/**
+	 * Gives every Actor its turn, letting the Actors other than the player choose their Actions in parallel.
+	 *
+	 * @see #setParallelPlanning(boolean)
+	 */
+	protected void processPlannedTurns() {
+		// The player goes first, before anyone else has made up their mind
+		List<Actor> others = new ArrayList<Actor>();
+		for (Actor actor : actorLocations) {
+			if (actor != player)
+				others.add(actor);
+			else if (stillRunning())
+				GameRandom.using(actor.getRandom(), () -> processActorTurn(actor));
+		}
+
+		List<Plan> plans = others.parallelStream().map(this::plan).collect(Collectors.toList());
+
+		for (int i = 0; i < others.size(); i++) {
+			Actor actor = others.get(i);
+			Plan plan = plans.get(i);
+			if (stillRunning() && actorLocations.contains(actor))
+				GameRandom.using(actor.getRandom(), () -> processPlannedTurn(actor, plan));
+		}
+	}
 
-			// Tick over all the maps. For the map stuff.
+	/**
+	 * Lets an Actor choose its Action ahead of its turn, if it is able to.
+	 *
+	 * @param actor the Actor to plan for
+	 * @return the Actor's plan, or null if the Actor will choose on its turn
+	 */
+	private Plan plan(Actor actor) {
+		Location here = actorLocations.locationOf(actor);
+		if (here == null || !actor.canPlanInParallel())
+			return null;
+
+		ActionList actions = ActionList.lazy(() -> allowableActions(actor, here));
+		Action action = GameRandom.using(actor.getRandom(),
+				() -> chooseAction(actor, actions, lastActionMap.get(actor), here.map()));
+		return new Plan(here, action);
+	}
+
+	/**
+	 * Gives an Actor its turn, executing the Action it planned if that still works.
+	 *
+	 * @param actor the Actor whose turn it is
+	 * @param plan  what the Actor planned to do, or null if it didn't plan
+	 */
+	private void processPlannedTurn(Actor actor, Plan plan) {
+		Location here = actorLocations.locationOf(actor);
+		if (plan == null || plan.location != here || !plan.action.isStillValid(actor, here.map())) {
+			processActorTurn(actor);
+			return;
+		}
+
+		execute(actor, plan.action, here.map());
+	}
+
+	/**
+	 * Ticks over all the maps, either one after another or in parallel.
+	 *
+	 * @param playersMap the GameMap containing the player
+	 * @see #setParallelMapTicking(boolean)
+	 */
+	protected void tickMaps(GameMap playersMap) {
+		if (!parallelMapTicking) {
 			for (GameMap gameMap : gameMaps) {
-				gameMap.tick();
+				GameRandom.using(gameMap.getRandom(), gameMap::tick);
 			}
+			return;
+		}
 
-			// Process all the actors.
-			for (Actor actor : actorLocations) {
-				if (stillRunning())
-					processActorTurn(actor);
-			}
+		int players = gameMaps.indexOf(playersMap);
+		tickInParallel(gameMaps.subList(0, Math.max(players, 0)));
+		if (players >= 0)
+			GameRandom.using(playersMap.getRandom(), playersMap::tick);
+		tickInParallel(gameMaps.subList(players + 1, gameMaps.size()));
+	}
+
+	/**
+	 * Ticks some maps at the same time, then writes out what they printed and queues the Actors they
+	 * spawned, map by map in the order given.
+	 *
+	 * @param maps the maps to tick
+	 */
+	private void tickInParallel(List<GameMap> maps) {
+		List<ForkJoinTask<MapTick>> ticks = new ArrayList<ForkJoinTask<MapTick>>();
+		for (GameMap gameMap : maps) {
+			ticks.add(ForkJoinPool.commonPool().submit(() -> {
+				MapTick tick = new MapTick();
+				tick.output = Display.capture(() -> tick.spawned = actorLocations.recordAdditions(
+						() -> GameRandom.using(gameMap.getRandom(), gameMap::tick)));
+				return tick;
+			}));
+		}
+
+		// Wait for the maps in the order they were added, so that output and spawned Actors come in a known order
+		for (ForkJoinTask<MapTick> task : ticks) {
+			MapTick tick = task.join();
+			console.print(tick.output);
+			actorLocations.moveToBack(tick.spawned);
 		}
-		display.println(endGameMessage());
+	}
+
+	/**
+	 * What happened while a map ticked off the game thread.
+	 */
+	private static class MapTick {
+		private String output;
+		private List<Actor> spawned;
+	}
+
+	/**
+	 * Draws the map the player is on, or the part of it in the viewport if there is one.
+	 *
+	 * Override this to change how (or whether) the World is displayed.
+	 *
+	 * @param playersMap the GameMap containing the player
+	 */
+	protected void draw(GameMap playersMap) {
+		if (viewport != null)
+			viewport.draw(display, actorLocations.locationOf(player));
+		else
+			playersMap.draw(display);
 	}
 
 	/**
@@ -116,6 +327,22 @@ public class World {
 		Location here = actorLocations.locationOf(actor);
 		GameMap map = here.map();
 
+		// Only collected if the Actor actually looks at them
+		ActionList actions = ActionList.lazy(() -> allowableActions(actor, here));
+		Action action = chooseAction(actor, actions, lastActionMap.get(actor), map);
+		execute(actor, action, map);
+	}
+
+	/**
+	 * Collects the Actions an Actor can take from where it is.
+	 *
+	 * @param actor the Actor whose turn it is
+	 * @param here  the Location of the Actor
+	 * @return the Actions available to the Actor
+	 * @see #processActorTurn(Actor)
+	 */
+	protected ActionList allowableActions(Actor actor, Location here) {
+		GameMap map = here.map();
 		ActionList actions = new ActionList();
 		for (Item item : actor.getItemInventory()) {
 			// for each item that can perform an action to its owner
@@ -150,14 +377,38 @@ public class World {
 			actions.add(item.getPickUpAction(actor));
 		}
 		actions.add(new DoNothingAction());
+		return actions;
+	}
 
-		Action action = actor.playTurn(actions, lastActionMap.get(actor), map, display);
+	/**
+	 * Executes the Action an Actor has chosen, and displays the result.
+	 *
+	 * @param actor  the Actor whose turn it is
+	 * @param action the Action to perform
+	 * @param map    the GameMap containing the Actor
+	 */
+	private void execute(Actor actor, Action action, GameMap map) {
 		lastActionMap.put(actor, action);
 		
 		String result = action.execute(actor, map);
 		display.println(result);
 	}
 
+	/**
+	 * Asks an Actor which Action it wants to perform this turn.
+	 *
+	 * By default the Actor decides for itself through {@link Actor#playTurn(ActionList, Action, GameMap, Display)}.
+	 *
+	 * @param actor      the Actor whose turn it is
+	 * @param actions    the Actions available to the Actor
+	 * @param lastAction the Action the Actor took last turn
+	 * @param map        the GameMap containing the Actor
+	 * @return the Action to be performed
+	 */
+	protected Action chooseAction(Actor actor, ActionList actions, Action lastAction, GameMap map) {
+		return actor.playTurn(actions, lastAction, map, display);
+	}
+
 	/**
 	 * Returns true if the game is still running.
 	 *
@@ -177,4 +428,17 @@ public class World {
 	protected String endGameMessage() {
 		return "Game Over";
 	}
+
+	/**
+	 * An Action chosen ahead of an Actor's turn, along with where the Actor was when it chose.
+	 */
+	private static class Plan {
+		private final Location location;
+		private final Action action;
+
+		private Plan(Location location, Action action) {
+			this.location = location;
+			this.action = action;
+		}
+	}
 }
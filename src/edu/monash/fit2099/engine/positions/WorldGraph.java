@@ -0,0 +1,232 @@
+package edu.monash.fit2099.engine.positions;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Plans journeys between the GameMaps of a World, through the {@link Gateway}s that join them.
+ *
+ * The World is seen at two levels. Each map is summarised by the Gateways on it, with a
+ * {@link DistanceField} leading to each one, so the number of turns from anywhere on the map to any of its
+ * Gateways can be looked up straight away. Across maps, a journey is a shortest path (found with
+ * Dijkstra's algorithm) through the Gateways, where going through a Gateway takes one turn and lands the
+ * Actor at its destination. Only the last leg, from the final Gateway to the end of the journey, is
+ * searched for square by square, and that route is remembered by the map's {@link PathFinder}.
+ *
+ * A map's summary is only worked out again when its terrain changes (see {@link GameMap#getTerrainVersion()}),
+ * for example when a gate appears or is unlocked; the other maps' summaries are kept. Summaries are kept
+ * for each {@link MovementProfile} separately, since different Actors can walk on and use different things.
+ *
+ * Like {@link DistanceField}, summaries take time and memory in proportion to the map's area, so this
+ * isn't meant for a {@link ChunkedGameMap}.
+ *
+ * This class is thread-safe.
+ */
+public class WorldGraph {
+
+	/**
+	 * The number of movement profiles to keep map summaries for
+	 */
+	private static final int MAX_PROFILES = 32;
+
+	private final List<GameMap> maps;
+	/**
+	 * Map summaries for the profiles planned for most recently, least recently used first
+	 */
+	private final Map<MovementProfile, Map<GameMap, MapSummary>> summaries = new LinkedHashMap<>(16, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<MovementProfile, Map<GameMap, MapSummary>> eldest) {
+			return size() > MAX_PROFILES;
+		}
+	};
+	/**
+	 * The number of map summaries that have been worked out
+	 */
+	private int summaryCount = 0;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param maps the maps in the World; the list may grow as maps are added
+	 */
+	public WorldGraph(List<GameMap> maps) {
+		this.maps = maps;
+	}
+
+	/**
+	 * Plan a journey from one Location to another, possibly on a different map.
+	 *
+	 * Arriving through a Gateway is counted as arriving at its destination, although the Actor may be put
+	 * down next to it if someone is standing there.
+	 *
+	 * @param from    where the journey starts
+	 * @param to      where the journey ends
+	 * @param profile what the Actor making the journey can walk on and go through
+	 * @return the fastest journey, or null if there is no way there
+	 */
+	public synchronized WorldRoute route(Location from, Location to, MovementProfile profile) {
+		Map<GameMap, MapSummary> byMap = summaries.computeIfAbsent(profile, key -> new IdentityHashMap<>());
+
+		// Dijkstra over the places Gateways lead to, starting from where the journey starts
+		Map<Location, Step> best = new IdentityHashMap<>();
+		PriorityQueue<Step> queue = new PriorityQueue<>();
+		Step start = new Step(from, null, null, 0, 0);
+		best.put(from, start);
+		queue.add(start);
+		Step finish = null;
+		int sequence = 1;
+
+		while (!queue.isEmpty()) {
+			Step step = queue.poll();
+			if (step.location == to) {
+				finish = step;
+				break;
+			}
+			if (best.get(step.location) != step)
+				continue;
+
+			GameMap map = step.location.map();
+			if (map == to.map()) {
+				List<Location> lastLeg = map.getPathFinder().route(step.location, to, profile);
+				if (lastLeg != null)
+					sequence = offer(best, queue, new Step(to, step, null, step.turns + lastLeg.size(), sequence), sequence);
+			}
+
+			MapSummary summary = summary(map, profile, byMap);
+			if (summary == null)
+				continue;
+			for (Portal portal : summary.portals) {
+				int steps = portal.field.distanceFrom(step.location);
+				if (steps == DistanceField.UNREACHABLE)
+					continue;
+				// The steps to the Gateway's square, less the last one, plus a turn to go through
+				int turns = step.turns + Math.max(steps, 1);
+				for (Location destination : portal.destinations) {
+					sequence = offer(best, queue, new Step(destination, step, portal.gateway, turns, sequence), sequence);
+				}
+			}
+		}
+
+		if (finish == null)
+			return null;
+		List<Location> gateways = new ArrayList<>();
+		for (Step step = finish; step != null; step = step.previous) {
+			if (step.gateway != null)
+				gateways.add(step.gateway);
+		}
+		Collections.reverse(gateways);
+		return new WorldRoute(gateways, finish.turns);
+	}
+
+	/**
+	 * Returns the number of times a map has been summarised, to see how much work planning is doing.
+	 *
+	 * @return the number of map summaries worked out so far
+	 */
+	public synchronized int getSummaryCount() {
+		return summaryCount;
+	}
+
+	private static int offer(Map<Location, Step> best, PriorityQueue<Step> queue, Step step, int sequence) {
+		Step current = best.get(step.location);
+		if (current == null || step.turns < current.turns) {
+			best.put(step.location, step);
+			queue.add(step);
+		}
+		return sequence + 1;
+	}
+
+	/**
+	 * Returns the summary of a map, working it out again if the map's terrain has changed.
+	 *
+	 * @return the summary, or null if the map isn't in the World
+	 */
+	private MapSummary summary(GameMap map, MovementProfile profile, Map<GameMap, MapSummary> byMap) {
+		if (!maps.contains(map))
+			return null;
+
+		MapSummary summary = byMap.get(map);
+		int version = map.getTerrainVersion();
+		if (summary == null || summary.version != version) {
+			summary = new MapSummary(map, profile, version);
+			byMap.put(map, summary);
+			summaryCount++;
+		}
+		return summary;
+	}
+
+	/**
+	 * The Gateways on one map that Actors with a profile can use, and the way to each of them.
+	 */
+	private static final class MapSummary {
+		private final int version;
+		private final List<Portal> portals = new ArrayList<>();
+
+		private MapSummary(GameMap map, MovementProfile profile, int version) {
+			this.version = version;
+			for (int y : map.getYRange()) {
+				for (int x : map.getXRange()) {
+					Location location = map.at(x, y);
+					if (!(location.getGround() instanceof Gateway))
+						continue;
+
+					Gateway gateway = (Gateway) location.getGround();
+					if (profile.canUse(gateway) && !gateway.getDestinations().isEmpty())
+						portals.add(new Portal(location, gateway.getDestinations(), new DistanceField(location, profile)));
+				}
+			}
+		}
+	}
+
+	/**
+	 * A usable Gateway, where it leads, and the way to it.
+	 */
+	private static final class Portal {
+		private final Location gateway;
+		private final List<Location> destinations;
+		private final DistanceField field;
+
+		private Portal(Location gateway, List<Location> destinations, DistanceField field) {
+			this.gateway = gateway;
+			this.destinations = List.copyOf(destinations);
+			this.field = field;
+		}
+	}
+
+	/**
+	 * Reaching a Location on the journey: how, and how many turns it has taken.
+	 */
+	private static final class Step implements Comparable<Step> {
+		private final Location location;
+		private final Step previous;
+		/**
+		 * The Gateway gone through to get here, or null if the Actor walked
+		 */
+		private final Location gateway;
+		private final int turns;
+		/**
+		 * Breaks ties in the order Steps were found, so that the same journey is always chosen
+		 */
+		private final int sequence;
+
+		private Step(Location location, Step previous, Location gateway, int turns, int sequence) {
+			this.location = location;
+			this.previous = previous;
+			this.gateway = gateway;
+			this.turns = turns;
+			this.sequence = sequence;
+		}
+
+		@Override
+		public int compareTo(Step other) {
+			if (turns != other.turns)
+				return Integer.compare(turns, other.turns);
+			return Integer.compare(sequence, other.sequence);
+		}
+	}
+}
@@ -0,0 +1,40 @@
+package edu.monash.fit2099.engine.positions;
+
+import java.util.List;
+
+/**
+ * A journey planned by the {@link WorldGraph}: which Gateways to go through, in order, and about how long it takes.
+ */
+public final class WorldRoute {
+
+	private final List<Location> gateways;
+	private final int length;
+
+	WorldRoute(List<Location> gateways, int length) {
+		this.gateways = List.copyOf(gateways);
+		this.length = length;
+	}
+
+	/**
+	 * Returns the Locations of the Gateways to go through, in order.
+	 *
+	 * @return an unmodifiable list; empty if the journey stays on one map
+	 */
+	public List<Location> getGateways() {
+		return gateways;
+	}
+
+	/**
+	 * Returns the number of turns the journey takes, counting one turn to go through each Gateway.
+	 *
+	 * @return the length of the journey
+	 */
+	public int getLength() {
+		return length;
+	}
+
+	@Override
+	public String toString() {
+		return gateways + " in " + length;
+	}
+}
@@ -0,0 +1,113 @@
+package edu.monash.fit2099.engine.random;
+
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.function.Supplier;
+
+/**
+ * The single source of randomness for a game.
+ *
+ * Every GameMap and every Actor owns its own random stream, split off from a root stream
+ * when it is created. The World binds the right stream to the current thread while a map
+ * is ticking or an Actor is taking its turn, so game code can simply call {@link #current()}
+ * instead of keeping a {@code new Random()} of its own.
+ *
+ * Because streams are split rather than shared, the numbers an Actor sees depend only on the
+ * seed and the order in which things were created, not on what other maps or Actors did (or
+ * which thread did it). Call {@link #setSeed(long)} before building the World to make a whole
+ * game repeatable.
+ */
+public final class GameRandom {
+
+	private static SplittableRandom root = new SplittableRandom();
+	private static final ThreadLocal<SplittableRandom> bound = new ThreadLocal<>();
+
+	private GameRandom() {
+	}
+
+	/**
+	 * Reseed the root stream.
+	 *
+	 * Only streams split off after this call are affected, so do this before creating any maps or Actors.
+	 *
+	 * @param seed the seed for the whole game
+	 */
+	public static synchronized void setSeed(long seed) {
+		root = new SplittableRandom(seed);
+	}
+
+	/**
+	 * Returns the stream bound to the current thread.
+	 *
+	 * While the World is ticking a map this is the map's stream, and while an Actor is taking its turn
+	 * it is the Actor's stream. Outside of those (e.g. while setting up the game) it is the root stream,
+	 * which must only be used from the thread that runs the game.
+	 *
+	 * @return the random stream to use right now
+	 */
+	public static SplittableRandom current() {
+		SplittableRandom stream = bound.get();
+		if (stream == null)
+			return root;
+		return stream;
+	}
+
+	/**
+	 * Creates a new, independent stream from the current one.
+	 *
+	 * @return a new stream
+	 */
+	public static SplittableRandom split() {
+		SplittableRandom stream = bound.get();
+		if (stream == null) {
+			synchronized (GameRandom.class) {
+				return root.split();
+			}
+		}
+		return stream.split();
+	}
+
+	/**
+	 * Run a task with the given stream bound to the current thread.
+	 *
+	 * Whatever was bound before is restored afterwards, so calls can be nested.
+	 *
+	 * @param stream the stream that {@link #current()} should return while the task runs
+	 * @param task   the task to run
+	 */
+	public static void using(SplittableRandom stream, Runnable task) {
+		Objects.requireNonNull(stream);
+		SplittableRandom previous = bound.get();
+		bound.set(stream);
+		try {
+			task.run();
+		} finally {
+			if (previous == null)
+				bound.remove();
+			else
+				bound.set(previous);
+		}
+	}
+
+	/**
+	 * Compute a value with the given stream bound to the current thread.
+	 *
+	 * @param stream the stream that {@link #current()} should return while the task runs
+	 * @param task   the task to run
+	 * @param <T>    the type of value computed
+	 * @return the value computed by the task
+	 */
+	public static <T> T using(SplittableRandom stream, Supplier<T> task) {
+		Objects.requireNonNull(stream);
+		SplittableRandom previous = bound.get();
+		bound.set(stream);
+		try {
+			return task.get();
+		} finally {
+			if (previous == null)
+				bound.remove();
+			else
+				bound.set(previous);
+		}
+	}
+}
@@ -1,14 +1,23 @@
 package game;
 
 import edu.monash.fit2099.engine.actions.MoveActorAction;
+import edu.monash.fit2099.engine.actors.RandomPlayerController;
+import edu.monash.fit2099.engine.capabilities.CapabilityRegistry;
+import edu.monash.fit2099.engine.displays.AnsiFrameRenderer;
 import edu.monash.fit2099.engine.displays.Display;
+import edu.monash.fit2099.engine.displays.RecordingInputSource;
+import edu.monash.fit2099.engine.displays.ScriptedInputSource;
 import edu.monash.fit2099.engine.positions.FancyGroundFactory;
 import edu.monash.fit2099.engine.positions.GameMap;
+import edu.monash.fit2099.engine.positions.HeadlessWorld;
+import edu.monash.fit2099.engine.positions.Viewport;
 import edu.monash.fit2099.engine.positions.World;
+import edu.monash.fit2099.engine.random.GameRandom;
 import game.actors.*;
 import game.actors.abilities.WeatherControl;
 import game.actors.enemies.*;
 import game.actors.enemies.spawnableenemies.*;
+import game.attributes.*;
 import game.behaviours.Follow;
 import game.grounds.*;
 import game.grounds.Void;
@@ -23,10 +32,15 @@ import game.items.weapons.Broadsword;
 import game.items.weapons.GiantHammer;
 import game.items.weapons.GreatKnife;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Paths;
 import java.util.Arrays;  // Import the java.util package to use Arrays
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
 
 /**
  * The main class to start the game.
@@ -40,11 +54,77 @@ public class Application {
      * The main entry point for starting the game.
      * Initializes and configures the game world, maps, actors, and items, then starts the game loop.
      *
-     * @param args Command-line arguments (not used in this application).
+     * Passing {@code --headless <turns> [reportInterval]} runs the game without a human at the terminal:
+     * the player's moves are chosen at random, only every {@code reportInterval}'th turn is printed, and the number
+     * of turns played per second is reported at the end.
+     * Adding {@code --seed <seed>} makes the whole game repeatable, {@code --parallel-maps} ticks the maps in parallel
+     * and {@code --parallel-turns} lets the enemies plan their turns in parallel.
+     * {@code --ansi} keeps the map at the top of the terminal and only redraws the squares that have changed,
+     * and {@code --viewport <width> <height>} only draws a window of the map around the player.
+     * {@code --record <file>} saves the seed (picking one if there is no {@code --seed}) and every key the player presses,
+     * and {@code --replay <file>} plays such a file back with the same seed instead of reading the keyboard.
+     *
+     * @param args Command-line arguments, see above.
      */
     public static void main(String[] args) {
 
-        World world = new World(new Display());
+        Long seed = null;
+        for (int i = 0; i < args.length - 1; i++) {
+            if (args[i].equals("--seed")) {
+                seed = Long.parseLong(args[i + 1]);
+            }
+        }
+
+        List<String> options = Arrays.asList(args);
+        try {
+            int replayArg = options.indexOf("--replay");
+            if (replayArg >= 0 && replayArg + 1 < args.length) {
+                ScriptedInputSource replay = ScriptedInputSource.fromFile(Paths.get(args[replayArg + 1]));
+                Display.setInputSource(replay);
+                if (seed == null) {
+                    seed = replay.getSeed();
+                }
+            }
+            int recordArg = options.indexOf("--record");
+            if (recordArg >= 0 && recordArg + 1 < args.length) {
+                // a recording can only be replayed with its seed, so it always has one
+                if (seed == null) {
+                    seed = new SplittableRandom().nextLong();
+                }
+                Display.setInputSource(new RecordingInputSource(Display.getInputSource(), Paths.get(args[recordArg + 1]), seed));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        // the seed must be set before anything random is created
+        if (seed != null) {
+            GameRandom.setSeed(seed);
+        }
+
+        // the capabilities get the same bits in every run
+        CapabilityRegistry.register(Status.class, Ability.class, Weather.class, ProductsAccepted.class, UpgradeStatus.class);
+
+        Display display = new Display();
+        if (options.contains("--ansi")) {
+            display.setFrameRenderer(new AnsiFrameRenderer());
+        }
+
+        HeadlessWorld headlessWorld = null;
+        World world;
+        if (args.length >= 2 && args[0].equals("--headless")) {
+            int reportInterval = args.length >= 3 && !args[2].startsWith("--") ? Integer.parseInt(args[2]) : 0;
+            headlessWorld = new HeadlessWorld(display, new RandomPlayerController(), Integer.parseInt(args[1]), reportInterval);
+            world = headlessWorld;
+        } else {
+            world = new World(display);
+        }
+        world.setParallelMapTicking(options.contains("--parallel-maps"));
+        world.setParallelPlanning(options.contains("--parallel-turns"));
+        int viewportArg = options.indexOf("--viewport");
+        if (viewportArg >= 0 && viewportArg + 2 < args.length) {
+            world.setViewport(new Viewport(Integer.parseInt(args[viewportArg + 1]), Integer.parseInt(args[viewportArg + 2])));
+        }
 
     // CREATE MAP
         // ground factory for abandoned village and burial grounds
@@ -194,6 +274,13 @@ public class Application {
 //        weather.isSunny();
 
 
+    // HEADLESS RUN
+        if (headlessWorld != null) {
+            headlessWorld.run();
+            new Display().println(String.format("%.1f turns per second", headlessWorld.getTurnsPerSecond()));
+            return;
+        }
+
     // TITLE DISPLAY
         for (String line : FancyMessage.TITLE.split("\n")) {
             new Display().println(line);
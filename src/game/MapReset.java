@@ -4,16 +4,18 @@ import edu.monash.fit2099.engine.actors.Actor;
 import edu.monash.fit2099.engine.actors.attributes.ActorAttributeOperations;
 import edu.monash.fit2099.engine.actors.attributes.BaseActorAttributes;
 import edu.monash.fit2099.engine.items.Item;
+import edu.monash.fit2099.engine.positions.CapabilityIndex;
 import edu.monash.fit2099.engine.positions.GameMap;
-import edu.monash.fit2099.engine.positions.Ground;
 import edu.monash.fit2099.engine.positions.Location;
 import game.attributes.Ability;
 import game.attributes.Status;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * A class for resetting game maps by clearing actors, ground capabilities, and removing specific items.
@@ -54,20 +56,31 @@ public class MapReset {
     /**
      * Reset a specific map by clearing actors, ground capabilities, and removing specific items.
      *
+     * Only the actors and items with the capabilities of interest are visited, using the map's capability index,
+     * and the ground is reset for the whole map at once.
+     *
      * @param map The game map to reset.
      */
     public void reset(GameMap map) {
-        // loop every location (x,y) and reset the actors, grounds and items based on given condition
-        for (int y : map.getYRange()) {
-            for (int x : map.getXRange()) {
-                Location location = map.at(x, y);
-                Actor actor = location.getActor();
-                Ground ground = location.getGround();
-                List<Item> items = location.getItems();
-                this.actorReset(actor, map);
-                this.groundReset(ground);
-                this.itemReset(items, location);
-            }
+        CapabilityIndex index = map.getCapabilityIndex();
+
+        // reset every spawned actor and boss enemy, each only once even if it is both
+        Set<Actor> actors = new LinkedHashSet<>(index.find(Status.SPAWNED, Actor.class));
+        actors.addAll(index.find(Status.BOSS_ENEMY, Actor.class));
+        for (Actor actor : actors) {
+            this.actorReset(actor, map);
+        }
+
+        // remove the Moving Map capability from every ground on the map
+        map.removeGroundCapability(Ability.MOVE_MAP);
+
+        // only the locations holding destroyable items need their items reset
+        Set<Location> locations = new LinkedHashSet<>();
+        for (Item item : index.find(Status.DESTROY_IF_ON_GROUND, Item.class)) {
+            locations.add(index.locationOf(item));
+        }
+        for (Location location : locations) {
+            this.itemReset(location.getItems(), location);
         }
     }
 
@@ -89,16 +102,6 @@ public class MapReset {
         }
     }
 
-    /**
-     * Clear ground capabilities from a specific ground.
-     *
-     * @param ground The ground to reset.
-     */
-    public void groundReset(Ground ground) {
-        // remove the Moving Map capability from the current map
-        ground.removeCapability(Ability.MOVE_MAP);
-    }
-
     /**
      * Remove specific items from a location.
      *
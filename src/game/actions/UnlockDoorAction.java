@@ -45,7 +45,7 @@ public class UnlockDoorAction extends Action {
         // Check if the actor has the capability to unlock the door
         if (actor.hasCapability(Ability.UNLOCK_DOOR)) {
             // Add the capability to move through the door's ground
-            locationOfGate.getGround().addCapability(Ability.MOVE_MAP);
+            locationOfGate.addGroundCapability(Ability.MOVE_MAP);
             return "Gate is unlocked!";
         }
 
@@ -2,10 +2,11 @@ package game.actions.attacks;
 
 import edu.monash.fit2099.engine.actions.Action;
 import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.positions.Exit;
 import edu.monash.fit2099.engine.positions.GameMap;
 import edu.monash.fit2099.engine.weapons.Weapon;
+import edu.monash.fit2099.engine.random.GameRandom;
 
-import java.util.Random;
 
 /**
  * An action class representing an attack action by one actor on another.
@@ -26,10 +27,6 @@ public class AttackAction extends Action {
      */
     private String direction;
 
-    /**
-     * Random number generator used for determining hit success.
-     */
-    private Random rand = new Random();
 
     /**
      * The weapon used for the attack.
@@ -75,7 +72,7 @@ public class AttackAction extends Action {
         }
 
         // Determine whether the attack hits based on the weapon's hit chance
-        if (!(rand.nextInt(100) <= weapon.chanceToHit())) {
+        if (!(GameRandom.current().nextInt(100) <= weapon.chanceToHit())) {
             return actor + " misses " + target + ".";
         }
 
@@ -92,6 +89,27 @@ public class AttackAction extends Action {
         return result;
     }
 
+    /**
+     * The attack can only go ahead if the target is still next to the attacker.
+     *
+     * @param actor The actor performing the attack.
+     * @param map   The game map where the attack occurs.
+     * @return true if the target is still on the map and adjacent to the attacker.
+     */
+    @Override
+    public boolean isStillValid(Actor actor, GameMap map) {
+        if (!map.contains(target) || !map.contains(actor)) {
+            return false;
+        }
+
+        for (Exit exit : map.locationOf(actor).getExits()) {
+            if (exit.getDestination() == map.locationOf(target)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Provide a menu description for the action.
      *
@@ -4,12 +4,11 @@ import edu.monash.fit2099.engine.actions.Action;
 import edu.monash.fit2099.engine.actors.Actor;
 import edu.monash.fit2099.engine.actors.attributes.ActorAttributeOperations;
 import edu.monash.fit2099.engine.actors.attributes.BaseActorAttributes;
-import edu.monash.fit2099.engine.positions.Exit;
 import edu.monash.fit2099.engine.positions.GameMap;
 import edu.monash.fit2099.engine.positions.Location;
 import edu.monash.fit2099.engine.weapons.WeaponItem;
+import edu.monash.fit2099.engine.random.GameRandom;
 
-import java.util.Random;
 
 /**
  * Represents a special attack action in the game where an actor uses a weapon to deliver
@@ -39,10 +38,6 @@ public class GreatSlamAction extends Action {
      * The direction of the attack.
      */
     private String direction;
-    /**
-     * A random generator to simulate the randomness in the action's outcomes.
-     */
-    Random random  = new Random();
 
     /**
      * Initializes a new GreatSlamAction.
@@ -81,7 +76,7 @@ public class GreatSlamAction extends Action {
         }
 
         // Determine whether the attack hits based on the weapon's hit chance
-        if (!(random.nextInt(100) <= weapon.chanceToHit())) {
+        if (!(GameRandom.current().nextInt(100) <= weapon.chanceToHit())) {
             return actor + " misses " + target + ".";
         }
 
@@ -95,12 +90,10 @@ public class GreatSlamAction extends Action {
             result += "\n" + target.unconscious(actor, map);
         }
 
-        //Attack to surrounding actor
-        for (Exit exit : enemyLocation.getExits()) {
-            Location destination = exit.getDestination();
-            if(destination.containsAnActor()){
-                Actor surroundingActor = destination.getActor();
-
+        //Attack to surrounding actor, found around the target's location in the same order as its exits
+        for (Actor surroundingActor : map.getSpatialIndex().within(enemyLocation, 1, Actor.class)) {
+            // Skip the target's own square, and anyone already taken off the map by an earlier hit
+            if (map.contains(surroundingActor) && map.locationOf(surroundingActor) != enemyLocation) {
                 // Calculate damage and describe the attack result
                 int damageToSurrounding = weapon.damage() / 2;
                 result += "\n" + actor + " " + weapon.verb() + " " + surroundingActor + " for " + damageToSurrounding + " damage.";
@@ -9,7 +9,6 @@ import edu.monash.fit2099.engine.weapons.WeaponItem;
 import game.actors.abilities.SafeStepMovement;
 import game.actors.abilities.SafeStepMovement;
 
-import java.util.Random;
 
 /**
  * Represents a special attack action in the game where an actor uses a weapon to "Stab"
@@ -35,10 +34,6 @@ public class StabAndStep extends Action {
      * The target actor for the stab action.
      */
     Actor target;
-    /**
-     * A random generator to simulate randomness in the action's outcomes.
-     */
-    Random random = new Random();
 
     /**
      * Initializes a new StabAndStep action.
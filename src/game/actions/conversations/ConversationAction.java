@@ -3,9 +3,9 @@ package game.actions.conversations;
 import edu.monash.fit2099.engine.actions.Action;
 import edu.monash.fit2099.engine.actors.Actor;
 import edu.monash.fit2099.engine.positions.GameMap;
+import edu.monash.fit2099.engine.random.GameRandom;
 
 import java.util.ArrayList;
-import java.util.Random;
 
 /**
  * An action representing a conversation with an actor.
@@ -28,8 +28,6 @@ public class ConversationAction extends Action {
      */
     private ArrayList<String> monologueList;
 
-    private Random random = new Random();
-
     /**
      * Constructs a new ConversationAction.
      *
@@ -51,7 +49,7 @@ public class ConversationAction extends Action {
      */
     @Override
     public String execute(Actor actor, GameMap map) {
-        int rand = random.nextInt(monologueList.size());
+        int rand = GameRandom.current().nextInt(monologueList.size());
 
         return monologueList.get(rand);
     }
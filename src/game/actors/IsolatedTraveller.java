@@ -17,7 +17,7 @@ import game.items.consumables.HealingVial;
 import game.items.consumables.RefreshingFlask;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
@@ -59,7 +59,7 @@ public class IsolatedTraveller extends Actor implements MonologueAction {
     /**
      * Stores a list of items that Isolated Traveller can sell to Player.
      */
-    private Map<PlayerPurchase, Integer> tradeableItems = new HashMap<>();
+    private Map<PlayerPurchase, Integer> tradeableItems = new LinkedHashMap<>();
     /**
      * Stores a list of monologue options the Isolated Traveller can choose from
      */
@@ -7,10 +7,11 @@ import edu.monash.fit2099.engine.displays.Display;
 import edu.monash.fit2099.engine.positions.Exit;
 import edu.monash.fit2099.engine.positions.GameMap;
 import edu.monash.fit2099.engine.positions.Location;
+import edu.monash.fit2099.engine.positions.MovementProfile;
+import edu.monash.fit2099.engine.positions.Walkability;
+import edu.monash.fit2099.engine.random.GameRandom;
 
 import java.util.ArrayList;
-import java.util.List;
-import java.util.Random;
 
 /**
  * A behaviour representing the intention of an actor to step to an empty exit if one is found.
@@ -18,10 +19,6 @@ import java.util.Random;
  * @version 1.0
  */
 public class SafeStepMovement {
-    /**
-     * A random generator to decide on random movement options.
-     */
-    Random random = new Random();
     /**
      * The display interface to show debug or other messages.
      */
@@ -50,13 +47,14 @@ public class SafeStepMovement {
      */
     public Action getMovementAction(Actor actor, GameMap map) {
         ArrayList<Action> actions = new ArrayList<>();
+        Walkability walkability = map.getWalkability(MovementProfile.of(actor));
 
         if (!(target.isConscious())){
             for (Exit exit : map.locationOf(actor).getExits()) {
                 Location destination = exit.getDestination();
 
                 // Check if the destination location can be entered by the actor
-                if (destination.canActorEnter(actor)) {
+                if (walkability.canEnter(destination)) {
                     actions.add(destination.getMoveAction(actor, "around", exit.getHotKey()));
                 }
             }
@@ -65,22 +63,16 @@ public class SafeStepMovement {
         }
         else {
 
-            // Iterate through exits from the actor's current location
-            List<Location> locations = new ArrayList<>();
-
-            for (Exit exit : map.locationOf(target).getExits()) {
-                locations.add(exit.getDestination());
-            }
-
-//            display.println(locations.toString());
-
+            // Where the enemy is, to keep out of its reach
+            Location targetLocation = map.locationOf(target);
 
+            // Iterate through exits from the actor's current location
             for (Exit exit : map.locationOf(actor).getExits()) {
                 Location destination = exit.getDestination();
-                display.println(destination + " " + (locations.contains(exit.getDestination()) + " " + exit));
+                boolean nextToTarget = isNextTo(destination, targetLocation);
 
-                // Check if the destination location can be entered by the actor and if the location is part of the location of the enemy
-                if (destination.canActorEnter(actor) && !(locations.contains(destination))) {
+                // Check if the destination location can be entered by the actor and if the location is next to the enemy
+                if (walkability.canEnter(destination) && !nextToTarget) {
                     actions.add(destination.getMoveAction(actor, "around", exit.getHotKey()));
                 }
             }
@@ -89,12 +81,24 @@ public class SafeStepMovement {
 
         // Check if any valid movement actions are available and select a random movement from the available options
         if (!actions.isEmpty()) {
-            return actions.get(random.nextInt(actions.size()));
+            return actions.get(GameRandom.current().nextInt(actions.size()));
         } else {
             // No valid movement action available, return null
             return null;
         }
     }
 
+    /**
+     * Checks whether a location is one step away from another, i.e. one of its exits.
+     *
+     * @param location The location to check.
+     * @param other    The location it might be next to.
+     * @return True if the locations are on the same map and one step apart, false otherwise.
+     */
+    private boolean isNextTo(Location location, Location other) {
+        return location.map() == other.map()
+                && Math.max(Math.abs(location.x() - other.x()), Math.abs(location.y() - other.y())) == 1;
+    }
+
 }
 
@@ -1,9 +1,8 @@
 package game.actors.abilities;
 
 import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.displays.Display;
 import edu.monash.fit2099.engine.positions.GameMap;
-import edu.monash.fit2099.engine.positions.Ground;
-import edu.monash.fit2099.engine.positions.Location;
 import game.attributes.Weather;
 
 import java.util.ArrayList;
@@ -23,8 +22,9 @@ public class WeatherControl {
     /** Current weather in the game
      * Required to set the starting weather in Application
      * To indicate the current weather to the Spawning Enemies
+     * Volatile, as spawning grounds read it while maps tick in parallel; it only changes during actors' turns
      * Default is SUNNY. */
-    public static Weather WEATHER_CURR = Weather.SUNNY;
+    public static volatile Weather WEATHER_CURR = Weather.SUNNY;
 
     /** The current weather. */
     private Weather weather;
@@ -47,6 +47,9 @@ public class WeatherControl {
     /** Flag indicating if this instance is controlling the weather. */
     private boolean controller;
 
+    /** Display used to announce the weather. */
+    private Display display = new Display();
+
     /**
      * Constructor used in Application to set the initial weather as SUNNY.
      *
@@ -86,7 +89,7 @@ public class WeatherControl {
                 WeatherControl.WEATHER_CURR = Weather.SUNNY;
                 actor.addCapability(Weather.SUNNY);
                 actor.removeCapability(Weather.RAINY);
-                System.out.println("Current Weather is Sunny");
+                display.println("Current Weather is Sunny");
 
             }
             // Switch to rainy weather if counter is equal to or greater than switchCounter
@@ -95,7 +98,7 @@ public class WeatherControl {
                 WeatherControl.WEATHER_CURR = Weather.RAINY;
                 actor.addCapability(Weather.RAINY);
                 actor.removeCapability(Weather.SUNNY);
-                System.out.println("Current Weather is Rainy");
+                display.println("Current Weather is Rainy");
 
 //                System.out.println("Switching to rainy weather.");
             }
@@ -111,29 +114,24 @@ public class WeatherControl {
     /**
      * Updates the weather on a specific game map.
      *
+     * The actors are found through the map's capability index, and the ground is changed for the whole map at once
+     * rather than square by square.
+     *
      * @param map     The game map to update weather for.
      * @param weather The new weather to set.
      */
     private void updateWeather(GameMap map, Weather weather) {
-        // Update weather on actors and ground in the given map for every x, y coordinate
-        for (int y : map.getYRange()) {
-            for (int x : map.getXRange()) {
-                Location location = map.at(x, y);
-                Actor actor = location.getActor();
-                if (actor != null) {
-                    actor.removeCapability(Weather.RAINY);
-                    actor.removeCapability(Weather.SUNNY);
-                    actor.addCapability(weather);
-                }
-
-                Ground ground = location.getGround();
-                if (ground != null) {
-                    ground.removeCapability(Weather.RAINY);
-                    ground.removeCapability(Weather.SUNNY);
-                    ground.addCapability(weather);
-                }
-            }
+        // Update weather on every actor in the given map
+        for (Actor actor : map.getCapabilityIndex().findAll(Actor.class)) {
+            actor.removeCapability(Weather.RAINY);
+            actor.removeCapability(Weather.SUNNY);
+            actor.addCapability(weather);
         }
+
+        // Update weather on the ground of the given map
+        map.removeGroundCapability(Weather.RAINY);
+        map.removeGroundCapability(Weather.SUNNY);
+        map.addGroundCapability(weather);
     }
 
     /**
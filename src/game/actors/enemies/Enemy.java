@@ -14,7 +14,6 @@ import game.attributes.Status;
 import game.behaviours.AttackingBehaviour;
 import game.behaviours.WanderBehaviour;
 import java.util.Map;
-import java.util.Random;
 import java.util.TreeMap;
 
 /**
@@ -35,10 +34,6 @@ public abstract class Enemy extends Actor implements DropAction {
      * A collection of behaviours that the enemy actor can exhibit. The behaviours are ordered based on their execution priority.
      */
     protected Map<Integer, Behaviour> behaviours = new TreeMap<>();
-    /**
-     * Utility object for generating random numbers.
-     */
-    private final Random random = new Random();
 
 //    protected Runes lifeCost;
     /**
@@ -97,6 +92,18 @@ public abstract class Enemy extends Actor implements DropAction {
         return new DoNothingAction();
     }
 
+    /**
+     * Enemies only look around and pick a behaviour when choosing what to do, so they can plan their turns in parallel.
+     * An enemy whose playTurn also changes something (heals, changes the weather) must override this to return false,
+     * since a plan made in parallel may be thrown away and playTurn called again on the enemy's own turn.
+     *
+     * @return true
+     */
+    @Override
+    public boolean canPlanInParallel() {
+        return true;
+    }
+
     /**
      * Method to execute when the Wandering Undead becomes unconscious due to the action of another actor.
      *
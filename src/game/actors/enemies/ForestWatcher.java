@@ -105,6 +105,16 @@ public class ForestWatcher extends Enemy implements Follow {
     }
 
 
+    /**
+     * The ForestWatcher changes the weather for every map when choosing what to do, so it has to wait for its own turn.
+     *
+     * @return false
+     */
+    @Override
+    public boolean canPlanInParallel() {
+        return false;
+    }
+
     /**
      * Defines the actions to be taken by the ForestWatcher during its turn to play.
      *
@@ -5,6 +5,7 @@ import edu.monash.fit2099.engine.actors.Actor;
 import edu.monash.fit2099.engine.positions.GameMap;
 import edu.monash.fit2099.engine.positions.Location;
 import edu.monash.fit2099.engine.weapons.IntrinsicWeapon;
+import edu.monash.fit2099.engine.random.GameRandom;
 import game.actions.attacks.AttackAction;
 import game.actors.enemies.Enemy;
 import game.attributes.Ability;
@@ -14,7 +15,6 @@ import game.behaviours.FollowBehaviour;
 import game.items.consumables.HealingVial;
 import game.items.consumables.RefreshingFlask;
 import game.items.consumables.Runes;
-import java.util.Random;
 
 
 /**
@@ -26,10 +26,6 @@ import java.util.Random;
  * @version 1.0
  */
 public class EldentreeGuardian extends SpawnableEnemy implements Follow {
-    /**
-     * Generate random numbers
-     */
-    private final Random random = new Random();
 
     /**
      * Default probability of dropping a healing vial for Eldentree Guardian.
@@ -114,11 +110,11 @@ public class EldentreeGuardian extends SpawnableEnemy implements Follow {
     @Override
     public void dropItem(Location location) {
         // 25% chance to drop Healing Vial
-        if (random.nextDouble() <= DEFAULT_HEALING_VIAL_PROBABILITY){
+        if (GameRandom.current().nextDouble() <= DEFAULT_HEALING_VIAL_PROBABILITY){
             location.addItem(new HealingVial());
         }
         // 15% to drop RefreshingFlask
-        if (random.nextDouble() <= DEFAULT_REFRESHING_FLASK_PROBABILITY){
+        if (GameRandom.current().nextDouble() <= DEFAULT_REFRESHING_FLASK_PROBABILITY){
             location.addItem(new RefreshingFlask());
         }
 
@@ -9,6 +9,7 @@ import edu.monash.fit2099.engine.displays.Display;
 import edu.monash.fit2099.engine.positions.GameMap;
 import edu.monash.fit2099.engine.positions.Location;
 import edu.monash.fit2099.engine.weapons.IntrinsicWeapon;
+import edu.monash.fit2099.engine.random.GameRandom;
 import game.actors.abilities.WeatherControl;
 import game.actions.attacks.AttackAction;
 import game.actors.enemies.Enemy;
@@ -31,10 +32,6 @@ import java.util.*;
  */
 public class ForestKeeper extends SpawnableEnemy implements Follow {
 
-    /**
-     * Generate random numbers
-     */
-    private final Random random = new Random();
 
     /**
      * Default probability of dropping a healing vial for Forest Keeper.
@@ -90,6 +87,17 @@ public class ForestKeeper extends SpawnableEnemy implements Follow {
         return new IntrinsicWeapon(DEFAULT_DAMAGE, "limbs", DEFAULT_HIT_RATE);
     }
 
+    /**
+     * The Forest Keeper heals when choosing what to do in the rain, so it has to wait for its own turn,
+     * or it could heal twice if its plan is thrown away.
+     *
+     * @return false
+     */
+    @Override
+    public boolean canPlanInParallel() {
+        return false;
+    }
+
     /**
      * Perform actions for the Forest Keeper during its turn.
      *
@@ -146,7 +154,7 @@ public class ForestKeeper extends SpawnableEnemy implements Follow {
     @Override
     public void dropItem(Location location) {
         // 20% chance to drop Healing Vial
-        if (random.nextDouble() <= DEFAULT_HEALING_VIAL_PROBABILITY){
+        if (GameRandom.current().nextDouble() <= DEFAULT_HEALING_VIAL_PROBABILITY){
             location.addItem(new HealingVial());
         }
 
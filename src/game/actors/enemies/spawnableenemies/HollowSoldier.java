@@ -2,12 +2,12 @@ package game.actors.enemies.spawnableenemies;
 
 import edu.monash.fit2099.engine.positions.Location;
 import edu.monash.fit2099.engine.weapons.IntrinsicWeapon;
+import edu.monash.fit2099.engine.random.GameRandom;
 import game.actors.enemies.Enemy;
 import game.items.consumables.HealingVial;
 import game.items.consumables.RefreshingFlask;
 import game.items.consumables.Runes;
 
-import java.util.Random;
 
 /**
  * A class representing the "Hollow Soldier" enemy actor in the game.
@@ -21,8 +21,6 @@ import java.util.Random;
  */
 public class HollowSoldier extends SpawnableEnemy {
 
-    /** A random generator used for probabilistic calculations. */
-    private final Random random = new Random();
 
     /** Constant for the probability of default hit points of HollowSoldier  */
     public static final int DEFAULT_HIT_POINTS = 200;
@@ -68,12 +66,12 @@ public class HollowSoldier extends SpawnableEnemy {
     @Override
     public void dropItem(Location location) {
         // 30% chance to drop Refreshing Flask
-        if (random.nextDouble() <= DEFAULT_REFRESHING_FLASK_PROBABILITY){
+        if (GameRandom.current().nextDouble() <= DEFAULT_REFRESHING_FLASK_PROBABILITY){
             location.addItem(new RefreshingFlask());
         }
 
         // 20% chance to drop Healing Vial
-        if (random.nextDouble() <= DEFAULT_HEALING_VIAL_PROBABILITY){
+        if (GameRandom.current().nextDouble() <= DEFAULT_HEALING_VIAL_PROBABILITY){
             location.addItem(new HealingVial());
         }
 
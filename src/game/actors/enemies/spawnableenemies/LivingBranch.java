@@ -5,6 +5,7 @@ import edu.monash.fit2099.engine.actors.Actor;
 import edu.monash.fit2099.engine.positions.GameMap;
 import edu.monash.fit2099.engine.positions.Location;
 import edu.monash.fit2099.engine.weapons.IntrinsicWeapon;
+import edu.monash.fit2099.engine.random.GameRandom;
 import game.actions.attacks.AttackAction;
 import game.actors.enemies.Enemy;
 import game.attributes.Ability;
@@ -12,7 +13,6 @@ import game.attributes.Status;
 import game.behaviours.AttackingBehaviour;
 import game.items.consumables.Bloodberry;
 import game.items.consumables.Runes;
-import java.util.Random;
 
 /**
  * A class representing a LivingBranch enemy in the Game.
@@ -23,10 +23,6 @@ import java.util.Random;
  * @version 1.0
  */
 public class LivingBranch extends SpawnableEnemy{
-    /**
-     * Generate random numbers
-     */
-    private final Random random = new Random();
 
     /**
      * Default probability of dropping a bloodberry for Living Branch.
@@ -108,7 +104,7 @@ public class LivingBranch extends SpawnableEnemy{
     @Override
     public void dropItem(Location location) {
         // 50% chance to drop Bloodberry
-        if (random.nextDouble() <= DEFAULT_BLOODBERRY_PROBABILITY){
+        if (GameRandom.current().nextDouble() <= DEFAULT_BLOODBERRY_PROBABILITY){
             location.addItem(new Bloodberry());
         }
 
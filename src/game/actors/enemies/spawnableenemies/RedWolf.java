@@ -7,6 +7,7 @@ import edu.monash.fit2099.engine.displays.Display;
 import edu.monash.fit2099.engine.positions.GameMap;
 import edu.monash.fit2099.engine.positions.Location;
 import edu.monash.fit2099.engine.weapons.IntrinsicWeapon;
+import edu.monash.fit2099.engine.random.GameRandom;
 import game.actors.abilities.WeatherControl;
 import game.actions.attacks.AttackAction;
 import game.actors.enemies.UpdateDamage;
@@ -31,8 +32,6 @@ import java.util.*;
  */
 public class RedWolf extends SpawnableEnemy implements Follow, UpdateDamage {
 
-    /** A random generator used for probabilistic calculations. */
-    private final Random random = new Random();
     /** Display object to print messages on the user interface. */
     private Display display = new Display();
 
@@ -151,7 +150,7 @@ public class RedWolf extends SpawnableEnemy implements Follow, UpdateDamage {
     @Override
     public void dropItem(Location location) {
         // 20% chance to drop Healing Vial
-        if (random.nextDouble() <= DEFAULT_HEALING_VIAL_PROBABILITY){
+        if (GameRandom.current().nextDouble() <= DEFAULT_HEALING_VIAL_PROBABILITY){
             location.addItem(new HealingVial());
         }
 
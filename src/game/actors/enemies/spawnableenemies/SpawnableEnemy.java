@@ -2,10 +2,10 @@ package game.actors.enemies.spawnableenemies;
 
 import edu.monash.fit2099.engine.actors.Actor;
 import edu.monash.fit2099.engine.displays.Display;
+import edu.monash.fit2099.engine.random.GameRandom;
 import game.actors.enemies.Enemy;
 import game.attributes.Status;
 
-import java.util.Random;
 
 /**
  * An abstract class representing a spawnable enemy in the game.
@@ -19,10 +19,6 @@ import java.util.Random;
  * @version 1.0
  */
 public abstract class SpawnableEnemy extends Enemy implements SpawnActor {
-    /**
-     * A Random object to generate random numbers for spawning.
-     */
-    private final Random random = new Random();
     /**
      * Display object to show messages.
      */
@@ -49,7 +45,7 @@ public abstract class SpawnableEnemy extends Enemy implements SpawnActor {
      * @return A new instance of the enemy if it spawns; otherwise, null.
      */
     public Actor spawn(double spawnPercentage) {
-        if (random.nextInt(DEFAULT_BOUND) <= spawnPercentage) {
+        if (GameRandom.current().nextInt(DEFAULT_BOUND) <= spawnPercentage) {
             display.println("\nNEW " + name + " " + spawnPercentage + " ENEMY SPAWNED\n");
             Enemy enemy = this.newInstance();
             enemy.addCapability(Status.SPAWNED);
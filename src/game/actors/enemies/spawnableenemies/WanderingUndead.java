@@ -2,12 +2,12 @@ package game.actors.enemies.spawnableenemies;
 
 import edu.monash.fit2099.engine.positions.Location;
 import edu.monash.fit2099.engine.weapons.IntrinsicWeapon;
+import edu.monash.fit2099.engine.random.GameRandom;
 import game.actors.enemies.Enemy;
 import game.items.*;
 import game.items.consumables.HealingVial;
 import game.items.consumables.Runes;
 
-import java.util.Random;
 
 /**
  * A class representing the Wandering Undead enemy actor in the game.
@@ -15,10 +15,6 @@ import java.util.Random;
  * @version 1.0
  */
 public class WanderingUndead extends SpawnableEnemy {
-    /**
-     * Utility object for generating random numbers.
-     */
-    private final Random random = new Random();
     /**
      * Constant for the probability of default hit points of WanderingUndead
      */
@@ -75,12 +71,12 @@ public class WanderingUndead extends SpawnableEnemy {
     @Override
     public void dropItem(Location location) {
         // 25% chance to drop Old Key
-        if (random.nextDouble() <= DEFAULT_OLD_KEY_PROBABILITY){
+        if (GameRandom.current().nextDouble() <= DEFAULT_OLD_KEY_PROBABILITY){
             location.addItem(new OldKey());
         }
 
         // 20% chance to drop Healing Vial
-        if (random.nextDouble() <= DEFAULT_HEALING_VIAL_PROBABILITY){
+        if (GameRandom.current().nextDouble() <= DEFAULT_HEALING_VIAL_PROBABILITY){
             location.addItem(new HealingVial());
         }
 
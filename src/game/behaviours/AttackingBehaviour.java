@@ -3,15 +3,14 @@ package game.behaviours;
 import edu.monash.fit2099.engine.actions.Action;
 import edu.monash.fit2099.engine.actors.Actor;
 import edu.monash.fit2099.engine.actors.Behaviour;
-import edu.monash.fit2099.engine.positions.Exit;
 import edu.monash.fit2099.engine.positions.GameMap;
-import edu.monash.fit2099.engine.positions.Location;
 import game.actions.attacks.AttackAction;
 import game.attributes.Status;
 
 /**
  * A behaviour representing the intention of an actor to attack a nearby player if one is found.
  * This behaviour checks adjacent locations for the presence of a player and returns an AttackAction if one is found.
+ * Nearby actors are found through the map's spatial index rather than by visiting each exit.
  *
  * Authored by:
  * @author Sarviin Hari
@@ -31,17 +30,11 @@ public class AttackingBehaviour implements Behaviour, BehaviourOrder {
      */
     @Override
     public Action getAction(Actor actor, GameMap map) {
-        Action action;
-
-        // Loop through exits from the actor's current location
-        for (Exit exit : map.locationOf(actor).getExits()) {
-            Location destination = exit.getDestination();
-
-            // Check if the destination location contains an actor and if it's a player
-            if (destination.containsAnActor() && destination.getActor().hasCapability(Status.HOSTILE_TO_ENEMY)) {
+        // Look up the actors hostile to enemies next to the actor, in the same order as the exits
+        for (Actor other : map.getSpatialIndex().within(map.locationOf(actor), 1, Status.HOSTILE_TO_ENEMY, Actor.class)) {
+            if (other != actor) {
                 // Create an AttackAction to attack the player found
-                action = new AttackAction(destination.getActor(), destination.toString());
-                return action;
+                return new AttackAction(other, map.locationOf(other).toString());
             }
         }
 
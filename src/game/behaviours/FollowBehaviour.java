@@ -4,15 +4,17 @@ import edu.monash.fit2099.engine.actions.Action;
 import edu.monash.fit2099.engine.actions.MoveActorAction;
 import edu.monash.fit2099.engine.actors.Actor;
 import edu.monash.fit2099.engine.actors.Behaviour;
+import edu.monash.fit2099.engine.positions.DistanceField;
 import edu.monash.fit2099.engine.positions.Exit;
 import edu.monash.fit2099.engine.positions.GameMap;
 import edu.monash.fit2099.engine.positions.Location;
-
-import java.util.TreeMap;
+import edu.monash.fit2099.engine.positions.MovementProfile;
+import edu.monash.fit2099.engine.positions.Walkability;
 
 /**
  * A behaviour representing the intention of an actor to follow a target actor.
  * This behaviour calculates the possible movements to reach the target and returns a MoveActorAction to follow, if possible.
+ * The path goes around obstacles, using a distance field shared by all the actors following the same target.
  *
  * Authored by:
  * @author Choong Lee Ann
@@ -38,6 +40,11 @@ public class FollowBehaviour implements Behaviour, BehaviourOrder {
     /**
      * Determines the action to be performed by the actor based on their intention to follow the target actor.
      *
+     * The actor steps to the neighbouring square that is the fewest steps from the target, going around walls
+     * and other ground it can't enter. The steps are counted once per turn by the map's PathFinder, and shared
+     * by every actor of the same kind following the same target. If the target can't be reached at all, the
+     * actor just heads in its direction.
+     *
      * @param actor The actor performing the behaviour.
      * @param map   The game map containing the actor and the target.
      * @return A MoveActorAction to follow the target, or null if no valid movement is possible.
@@ -54,22 +61,36 @@ public class FollowBehaviour implements Behaviour, BehaviourOrder {
         // Location of the target to follow
         Location targetLoc = map.locationOf(target);
 
-        // Stores all the possible movements and their respective distances
-        TreeMap<Integer, Action> possibleMoveActions = new TreeMap<>();
+        // Steps to the target from every square this kind of actor can walk on
+        MovementProfile profile = MovementProfile.of(actor);
+        DistanceField field = map.getPathFinder().distanceField(targetLoc, profile);
+        Walkability walkability = map.getWalkability(profile);
+
+        // The best exit found so far, first by steps along the field and then by distance as the crow flies
+        Exit bestExit = null;
+        int bestSteps = DistanceField.UNREACHABLE;
+        int bestDistance = Integer.MAX_VALUE;
 
         // Iterate through exits from the actor's current location
         for (Exit exit : playerLoc.getExits()) {
             Location destination = exit.getDestination();
-            // If the actor can enter that exit, calculate the distance and store it with the action
-            if (destination.canActorEnter(actor)) {
+            // If the actor can enter that exit, compare it with the best so far
+            if (walkability.canEnter(destination)) {
+                int steps = field.distanceFrom(destination);
                 int newDistance = distance(destination, targetLoc);
-                possibleMoveActions.put(newDistance, new MoveActorAction(destination, exit.getName()));
+                if (steps < bestSteps || (steps == bestSteps && newDistance <= bestDistance)) {
+                    bestExit = exit;
+                    bestSteps = steps;
+                    bestDistance = newDistance;
+                }
             }
         }
 
-        // If there is a possible path for the actor to follow, choose the smallest distance for the actor to cover
-        if (!possibleMoveActions.isEmpty()) {
-            return possibleMoveActions.firstEntry().getValue();
+        // If there is a possible path for the actor to follow, take the step that brings it closest,
+        // unless the actor is already as close as it can get along the path
+        int stepsHere = field.distanceFrom(playerLoc);
+        if (bestExit != null && (stepsHere == DistanceField.UNREACHABLE || bestSteps < stepsHere)) {
+            return new MoveActorAction(bestExit.getDestination(), bestExit.getName());
         }
 
         return null;
@@ -6,9 +6,11 @@ import edu.monash.fit2099.engine.actors.Behaviour;
 import edu.monash.fit2099.engine.positions.Exit;
 import edu.monash.fit2099.engine.positions.GameMap;
 import edu.monash.fit2099.engine.positions.Location;
+import edu.monash.fit2099.engine.positions.MovementProfile;
+import edu.monash.fit2099.engine.positions.Walkability;
+import edu.monash.fit2099.engine.random.GameRandom;
 
 import java.util.ArrayList;
-import java.util.Random;
 
 /**
  * A behaviour representing the intention of an actor to wander to a random adjacent location.
@@ -23,8 +25,6 @@ public class WanderBehaviour implements Behaviour, BehaviourOrder {
     /** Priority of the wander behaviour */
     private static final int WANDER_BEHAVIOUR_PRIORITY = 2;
 
-    /** Random generator for selecting random movements */
-    private final Random random = new Random();
 
     /**
      * Determines the action to be performed by the actor based on their intention to wander randomly.
@@ -36,20 +36,21 @@ public class WanderBehaviour implements Behaviour, BehaviourOrder {
     @Override
     public Action getAction(Actor actor, GameMap map) {
         ArrayList<Action> actions = new ArrayList<>();
+        Walkability walkability = map.getWalkability(MovementProfile.of(actor));
 
         // Iterate through exits from the actor's current location
         for (Exit exit : map.locationOf(actor).getExits()) {
             Location destination = exit.getDestination();
 
             // Check if the destination location can be entered by the actor
-            if (destination.canActorEnter(actor)) {
+            if (walkability.canEnter(destination)) {
                 actions.add(exit.getDestination().getMoveAction(actor, "around", exit.getHotKey()));
             }
         }
 
         // Check if any valid movement actions are available and select a random movement from the available options
         if (!actions.isEmpty()) {
-            return actions.get(random.nextInt(actions.size()));
+            return actions.get(GameRandom.current().nextInt(actions.size()));
         } else {
             // No valid movement action available, return null
             return null;
@@ -16,4 +16,12 @@ public class Dirt extends Ground {
     public Dirt() {
         super('.');
     }
-}
\ No newline at end of file
+
+    /**
+     * @return true
+     */
+    @Override
+    public boolean isStateless() {
+        return true;
+    }
+}
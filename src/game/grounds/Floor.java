@@ -32,4 +32,12 @@ public class Floor extends Ground {
     public boolean canActorEnter(Actor actor) {
         return actor.hasCapability(Ability.ENTER_FLOOR);
     }
-}
\ No newline at end of file
+
+    /**
+     * @return true
+     */
+    @Override
+    public boolean isStateless() {
+        return true;
+    }
+}
@@ -3,6 +3,7 @@ package game.grounds;
 import edu.monash.fit2099.engine.actions.Action;
 import edu.monash.fit2099.engine.actions.ActionList;
 import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.positions.Gateway;
 import edu.monash.fit2099.engine.positions.Ground;
 import edu.monash.fit2099.engine.positions.Location;
 import game.LocationMap;
@@ -10,11 +11,13 @@ import game.actions.MoveMapAction;
 import game.actions.UnlockDoorAction;
 import game.attributes.Ability;
 import java.util.ArrayList;
+import java.util.List;
 
 //I acknowledge the use of ChatGPT in forming code for this class
 /**
  * A class representing a locked gate on a game map.
  * Locked gates can be unlocked by the player, allowing them to move to the next map.
+ * As a Gateway, an unlocked gate lets the WorldGraph plan journeys through it.
  *
  * Authored by:
  * @author Sarviin Hari
@@ -22,7 +25,7 @@ import java.util.ArrayList;
  * @author Raynen Jivash
  * @version 1.0
  */
-public class LockedGate extends Ground {
+public class LockedGate extends Ground implements Gateway {
     /**
      * The action associated with the locked gate.
      */
@@ -115,4 +118,31 @@ public class LockedGate extends Ground {
         // Check if the gate has the MOVE_MAP capability, indicating it can be entered
         return this.hasCapability(Ability.MOVE_MAP);
     }
+
+    /**
+     * Returns the locations on other maps that this gate leads to.
+     *
+     * @return the destinations of the gate's location maps, or an empty list if it has none
+     */
+    @Override
+    public List<Location> getDestinations() {
+        List<Location> destinations = new ArrayList<>();
+        if (locationMaps != null) {
+            for (LocationMap locationMap : locationMaps) {
+                destinations.add(locationMap.getLocation());
+            }
+        }
+        return destinations;
+    }
+
+    /**
+     * Checks whether an actor could go through the gate now, i.e. the gate is unlocked and the actor can use gates.
+     *
+     * @param actor The actor wanting to go through the gate.
+     * @return True if the actor can go through, false otherwise.
+     */
+    @Override
+    public boolean canActorUse(Actor actor) {
+        return actor.hasCapability(Ability.INTERACT_WITH_GATE) && this.hasCapability(Ability.MOVE_MAP);
+    }
 }
@@ -87,4 +87,12 @@ public class Puddle extends Ground implements ConsumeAbility {
     public String toString() {
         return "Puddle";
     }
+
+    /**
+     * @return true
+     */
+    @Override
+    public boolean isStateless() {
+        return true;
+    }
 }
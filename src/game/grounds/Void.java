@@ -52,4 +52,12 @@ public class Void extends Ground {
             display.println(location.getActor().unconscious(location.map())); // Mark the actor as unconscious due to natural causes.
         }
     }
+
+    /**
+     * @return true
+     */
+    @Override
+    public boolean isStateless() {
+        return true;
+    }
 }
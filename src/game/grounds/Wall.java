@@ -27,4 +27,12 @@ public class Wall extends Ground {
     public boolean canActorEnter(Actor actor) {
         return false; // Walls are impassable
     }
-}
\ No newline at end of file
+
+    /**
+     * @return true
+     */
+    @Override
+    public boolean isStateless() {
+        return true;
+    }
+}
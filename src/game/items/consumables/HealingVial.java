@@ -7,6 +7,7 @@ import edu.monash.fit2099.engine.actors.attributes.BaseActorAttributes;
 import edu.monash.fit2099.engine.items.Item;
 import edu.monash.fit2099.engine.positions.GameMap;
 import edu.monash.fit2099.engine.positions.Location;
+import edu.monash.fit2099.engine.random.GameRandom;
 import game.actions.consumeitems.ConsumeAbility;
 import game.actions.consumeitems.ConsumeAction;
 import game.actions.playerpurchases.Purchase;
@@ -20,7 +21,6 @@ import game.attributes.ProductsAccepted;
 import game.attributes.Status;
 import game.attributes.UpgradeStatus;
 
-import java.util.Random;
 
 /**
  * A class representing a Healing Vial item that can be dropped by an actor.
@@ -73,10 +73,6 @@ public class HealingVial extends Item implements PlayerSell, PlayerPurchase, Upg
      */
     public static final int ASK_PRICE_MULTIPLIER = 2;
 
-    /**
-     * A random number generator used for various calculations.
-     */
-    Random random = new Random();
 
     /**
      * The standard selling price of a Healing Vial when not sold at a bonus price.
@@ -147,7 +143,7 @@ public class HealingVial extends Item implements PlayerSell, PlayerPurchase, Upg
      */
     @Override
     public Action playerSellItem(int sellingPrice) {
-        if (random.nextInt(DEFAULT_BOUND) < TRAVELLER_TAKE_PROBABILITY) {
+        if (GameRandom.current().nextInt(DEFAULT_BOUND) < TRAVELLER_TAKE_PROBABILITY) {
             bonusPrice = sellingPrice * BONUS_MULTIPLIER;
             return new Sell(this, bonusPrice);
         } else {
@@ -164,7 +160,7 @@ public class HealingVial extends Item implements PlayerSell, PlayerPurchase, Upg
     @Override
     public Action traderPurchaseItem(int standardPrice) {
         // Using ternary operator to determine the askPrice
-        int askPrice = (random.nextInt(DEFAULT_BOUND) <= TRAVELLER_ASK_PROBABILITY) ? (standardPrice * ASK_PRICE_MULTIPLIER) : standardPrice;
+        int askPrice = (GameRandom.current().nextInt(DEFAULT_BOUND) <= TRAVELLER_ASK_PROBABILITY) ? (standardPrice * ASK_PRICE_MULTIPLIER) : standardPrice;
         return new Purchase(new HealingVial(), askPrice);
     }
 
@@ -7,6 +7,7 @@ import edu.monash.fit2099.engine.actors.attributes.BaseActorAttributes;
 import edu.monash.fit2099.engine.items.Item;
 import edu.monash.fit2099.engine.positions.GameMap;
 import edu.monash.fit2099.engine.positions.Location;
+import edu.monash.fit2099.engine.random.GameRandom;
 import game.actions.consumeitems.ConsumeAbility;
 import game.actions.consumeitems.ConsumeAction;
 import game.actions.playerpurchases.Purchase;
@@ -21,7 +22,6 @@ import game.attributes.ProductsAccepted;
 import game.attributes.Status;
 import game.attributes.UpgradeStatus;
 
-import java.util.Random;
 
 /**
  * A class representing a refreshing flask item that can be dropped by an actor.
@@ -72,10 +72,6 @@ public class RefreshingFlask extends Item implements PlayerSell, PlayerPurchase,
      */
     public static final double ASK_PRICE_MULTIPLIER = 0.8;
 
-    /**
-     * A random number generator used for various calculations.
-     */
-    Random random = new Random();
     private boolean upgraded = false;
 
 
@@ -137,7 +133,7 @@ public class RefreshingFlask extends Item implements PlayerSell, PlayerPurchase,
      */
     @Override
     public Action playerSellItem(int sellingPrice) {
-        if (random.nextInt(DEFAULT_BOUND) < TRAVELLER_TAKE_PROBABILITY) {
+        if (GameRandom.current().nextInt(DEFAULT_BOUND) < TRAVELLER_TAKE_PROBABILITY) {
             return new Sell(this, sellingPrice);
         } else {
             // if it's a scam
@@ -154,7 +150,7 @@ public class RefreshingFlask extends Item implements PlayerSell, PlayerPurchase,
     @Override
     public Action traderPurchaseItem(int standardPrice) {
         //Using ternary operator to determine askPrice
-        int askPrice = (random.nextInt(DEFAULT_BOUND) <= TRAVELLER_ASK_PROBABILITY) ? ((int) (standardPrice * ASK_PRICE_MULTIPLIER)) : standardPrice;
+        int askPrice = (GameRandom.current().nextInt(DEFAULT_BOUND) <= TRAVELLER_ASK_PROBABILITY) ? ((int) (standardPrice * ASK_PRICE_MULTIPLIER)) : standardPrice;
         return new Purchase(new RefreshingFlask(), askPrice);
     }
 
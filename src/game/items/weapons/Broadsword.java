@@ -6,6 +6,7 @@ import edu.monash.fit2099.engine.actors.Actor;
 import edu.monash.fit2099.engine.displays.Display;
 import edu.monash.fit2099.engine.positions.Location;
 import edu.monash.fit2099.engine.weapons.WeaponItem;
+import edu.monash.fit2099.engine.random.GameRandom;
 import game.actions.attacks.AttackAction;
 import game.actions.attacks.FocusAction;
 import game.actions.attacks.WeaponFocus;
@@ -20,7 +21,6 @@ import game.attributes.ProductsAccepted;
 import game.attributes.Status;
 import game.attributes.UpgradeStatus;
 
-import java.util.Random;
 
 /**
  * A class representing a Broadsword, which is a type of WeaponItem.
@@ -89,10 +89,6 @@ public class Broadsword extends WeaponItem implements WeaponFocus, PlayerSell, P
      */
     public static final float DEFAULT_DAMAGE_MULTIPLIER = 1.0f;
 
-    /**
-     * A random number generator used for various calculations.
-     */
-    private Random random = new Random();
 
     private int add_damage = 0;
 
@@ -227,7 +223,7 @@ public class Broadsword extends WeaponItem implements WeaponFocus, PlayerSell, P
      */
     @Override
     public Action traderPurchaseItem(int standardPrice) {
-        return new Purchase(new Broadsword(), standardPrice, random.nextInt(DEFAULT_BOUND) <= TRAVELLER_ASK_PROBABILITY);
+        return new Purchase(new Broadsword(), standardPrice, GameRandom.current().nextInt(DEFAULT_BOUND) <= TRAVELLER_ASK_PROBABILITY);
     }
 
     /**
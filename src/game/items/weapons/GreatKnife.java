@@ -5,6 +5,7 @@ import edu.monash.fit2099.engine.actions.ActionList;
 import edu.monash.fit2099.engine.actors.Actor;
 import edu.monash.fit2099.engine.positions.Location;
 import edu.monash.fit2099.engine.weapons.WeaponItem;
+import edu.monash.fit2099.engine.random.GameRandom;
 import game.actions.attacks.AttackAction;
 import game.actions.attacks.StabAndStep;
 import game.actions.playerpurchases.Purchase;
@@ -18,7 +19,6 @@ import game.attributes.ProductsAccepted;
 import game.attributes.Status;
 import game.attributes.UpgradeStatus;
 
-import java.util.Random;
 
 /**
  * A class representing a GreatKnife, which is a type of WeaponItem.
@@ -74,10 +74,6 @@ public class GreatKnife extends WeaponItem implements PlayerSell, PlayerPurchase
      */
     private int initialHitRate;
 
-    /**
-     * Random number generator for various random operations.
-     */
-    private Random random = new Random();
 
     /**
      * Constructor to create a GreatKnife.
@@ -130,7 +126,7 @@ public class GreatKnife extends WeaponItem implements PlayerSell, PlayerPurchase
      */
     @Override
     public Action playerSellItem(int sellingPrice) {
-        if (random.nextInt(DEFAULT_BOUND) < TRAVELLER_TAKE_PROBABILITY) {
+        if (GameRandom.current().nextInt(DEFAULT_BOUND) < TRAVELLER_TAKE_PROBABILITY) {
             return new Sell(this, sellingPrice, true);
         } else {
             return new Sell(this, sellingPrice);
@@ -146,7 +142,7 @@ public class GreatKnife extends WeaponItem implements PlayerSell, PlayerPurchase
     @Override
     public Action traderPurchaseItem(int standardPrice) {
         //Using ternary operator to determine the askPrice
-        int askPrice = (random.nextInt(DEFAULT_BOUND) <= TRAVELLER_ASK_PROBABILITY) ? (standardPrice * ASK_PRICE_MULTIPLIER) : standardPrice;
+        int askPrice = (GameRandom.current().nextInt(DEFAULT_BOUND) <= TRAVELLER_ASK_PROBABILITY) ? (standardPrice * ASK_PRICE_MULTIPLIER) : standardPrice;
         return new Purchase(new GreatKnife(), askPrice);
     }
 